@@ -0,0 +1,69 @@
+package com.akib.courseManagementSystem.jmh;
+
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.entity.Student;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds detached entities shaped like production rows for the micro benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an instructor with realistic field lengths.
+     *
+     * @param id The ID of the instructor.
+     * @return The instructor.
+     */
+    static Instructor instructor(long id) {
+        Instructor instructor = new Instructor();
+        instructor.setId(id);
+        instructor.setName("Instructor " + id);
+        instructor.setEmail("instructor" + id + "@university.example.com");
+        return instructor;
+    }
+
+    /**
+     * Creates a student with realistic field lengths.
+     *
+     * @param id The ID of the student.
+     * @return The student.
+     */
+    static Student student(long id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setName("Student Number " + id);
+        student.setEmail("student." + id + "@university.example.com");
+        return student;
+    }
+
+    /**
+     * Creates a course with an instructor and the given number of enrolled students.
+     *
+     * @param rosterSize The number of enrolled students.
+     * @return The course.
+     */
+    static Course course(int rosterSize) {
+        Course course = new Course();
+        course.setId(4_242L);
+        course.setTitle("Distributed Systems and Data-Intensive Applications");
+        course.setDescription("Replication, partitioning, consensus and stream processing, with weekly labs "
+                + "on building fault tolerant services on top of PostgreSQL and Kafka.");
+        course.setStartDate(LocalDate.of(2026, 9, 1));
+        course.setEndDate(LocalDate.of(2026, 12, 18));
+        course.setInstructor(instructor(17L));
+        List<Student> students = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            students.add(student(100_000L + i));
+        }
+        course.setStudents(students);
+        return course;
+    }
+}
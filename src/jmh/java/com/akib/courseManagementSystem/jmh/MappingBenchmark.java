@@ -0,0 +1,118 @@
+package com.akib.courseManagementSystem.jmh;
+
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.mapper.CourseMapper;
+import com.akib.courseManagementSystem.mapper.InstructorMapper;
+import com.akib.courseManagementSystem.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the entity/DTO mappers used by the service layer, at roster sizes of an empty,
+ * a typical and a very large course. Run with {@code -prof gc} (the jmh profile does) to see
+ * the allocation rate per operation next to the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int rosterSize;
+
+    private Course course;
+    private CourseDTO courseDTO;
+    private Instructor instructor;
+    private Student student;
+    private List<Student> roster;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkData.course(rosterSize);
+        courseDTO = CourseMapper.toDTO(course);
+        instructor = course.getInstructor();
+        student = BenchmarkData.student(1L);
+        roster = course.getStudents();
+    }
+
+    /**
+     * Course entity to DTO, including the student ID list.
+     */
+    @Benchmark
+    public CourseDTO courseToDTO() {
+        return CourseMapper.toDTO(course);
+    }
+
+    /**
+     * Course DTO to entity, as done when a course is created.
+     */
+    @Benchmark
+    public Course courseToEntity() {
+        return CourseMapper.toEntity(courseDTO);
+    }
+
+    /**
+     * Single student entity to DTO.
+     */
+    @Benchmark
+    public StudentDTO studentToDTO() {
+        return StudentMapper.toDTO(student);
+    }
+
+    /**
+     * Single instructor entity to DTO.
+     */
+    @Benchmark
+    public InstructorDTO instructorToDTO() {
+        return InstructorMapper.toDTO(instructor);
+    }
+
+    /**
+     * Roster mapping from loaded Student entities, as the roster endpoint did before it read pages
+     * of projected rows; kept as the baseline for the JDBC roster.
+     */
+    @Benchmark
+    public List<StudentDTO> rosterMapping() {
+        return roster.stream()
+                .map(StudentMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Roster mapping followed by the second StudentDTO to StudentDTO copy that
+     * CourseController.getStudentsInCourse used to perform before responding.
+     */
+    @Benchmark
+    public List<StudentDTO> rosterDoubleMapping() {
+        return rosterMapping().stream()
+                .map(student -> {
+                    StudentDTO dto = new StudentDTO();
+                    dto.setId(student.getId());
+                    dto.setName(student.getName());
+                    dto.setEmail(student.getEmail());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.akib.courseManagementSystem.jmh;
+
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.mapper.CourseMapper;
+import com.akib.courseManagementSystem.mapper.StudentMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures Jackson serialization of the response bodies whose size grows with the roster:
+ * a CourseDTO with its studentIds list and the StudentDTO list of a course roster.
+ * The ObjectMapper is configured by the same builder Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int rosterSize;
+
+    private ObjectWriter courseWriter;
+    private ObjectWriter rosterWriter;
+    private CourseDTO courseDTO;
+    private List<StudentDTO> roster;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        courseWriter = objectMapper.writerFor(CourseDTO.class);
+        rosterWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, StudentDTO.class));
+        var course = BenchmarkData.course(rosterSize);
+        courseDTO = CourseMapper.toDTO(course);
+        roster = course.getStudents().stream().map(StudentMapper::toDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * CourseDTO as returned by GET /api/courses/{id}.
+     */
+    @Benchmark
+    public byte[] serializeCourse() throws JsonProcessingException {
+        return courseWriter.writeValueAsBytes(courseDTO);
+    }
+
+    /**
+     * Roster as returned by GET /api/courses/{id}/students.
+     */
+    @Benchmark
+    public byte[] serializeRoster() throws JsonProcessingException {
+        return rosterWriter.writeValueAsBytes(roster);
+    }
+}
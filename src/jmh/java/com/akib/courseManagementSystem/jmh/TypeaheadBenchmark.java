@@ -0,0 +1,83 @@
+package com.akib.courseManagementSystem.jmh;
+
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+import com.akib.courseManagementSystem.search.TypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typeahead lookups on an index of a million people, for a short prefix that matches
+ * many tokens, a longer one that matches few, and a two-term query. Eight threads search at once,
+ * like concurrent users typing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(8)
+public class TypeaheadBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Ann", "Annabel", "Bruno", "Chen", "Diego", "Emma", "Farah",
+            "Goran", "Hana", "Ivan", "Jonas", "Kofi", "Lena", "Marta", "Nikhil", "Olga", "Priya", "Rafael"};
+    private static final String[] LAST_NAMES = {"Smith", "Smythe", "Garcia", "Ivanova", "Kim", "Lopez", "Müller",
+            "Nakamura", "Okafor", "Patel", "Rossi", "Schmidt", "Tanaka", "Nguyen", "Wang", "Yilmaz", "Zhou"};
+
+    @Param({"1000000"})
+    private int people;
+
+    @Param({"20"})
+    private int limit;
+
+    private TypeaheadIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TypeaheadIndex();
+        Random random = new Random(42);
+        for (long id = 1; id <= people; id++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            index.put(id, first + " " + last, first.toLowerCase() + "." + last.toLowerCase() + id + "@example.com");
+        }
+    }
+
+    /**
+     * Two typed letters, matching a large share of the index.
+     */
+    @Benchmark
+    public List<TypeaheadHitDTO> shortPrefix() {
+        return index.search("an", limit);
+    }
+
+    /**
+     * A typed email fragment, matching a handful of people.
+     */
+    @Benchmark
+    public List<TypeaheadHitDTO> emailPrefix() {
+        return index.search("smith42", limit);
+    }
+
+    /**
+     * First name and the start of the last name.
+     */
+    @Benchmark
+    public List<TypeaheadHitDTO> twoTerms() {
+        return index.search("marta ok", limit);
+    }
+}
@@ -0,0 +1,112 @@
+package com.akib.courseManagementSystem.jmh;
+
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.mapper.CourseMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the wire formats of a {@code GET /api/courses} page of 20 courses: the CPU time to serialize it,
+ * with and without gzip, per format. The bytes on the wire of each format, raw and gzipped, are printed
+ * once per trial. The ObjectMappers are configured by the same builder Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"JSON", "JSON_BLACKBIRD", "SMILE", "CBOR"})
+    private String format;
+
+    @Param({"0", "100", "1000"})
+    private int rosterSize;
+
+    private ObjectWriter writer;
+    private CursorPage<CourseDTO> page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = switch (format) {
+            case "JSON" -> Jackson2ObjectMapperBuilder.json().build();
+            case "JSON_BLACKBIRD" -> Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+            case "SMILE" -> Jackson2ObjectMapperBuilder.smile().modulesToInstall(new BlackbirdModule())
+                    .factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build())
+                    .build();
+            case "CBOR" -> Jackson2ObjectMapperBuilder.cbor().modulesToInstall(new BlackbirdModule())
+                    .factory(new CBORFactory()).build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        writer = objectMapper.writer();
+        List<CourseDTO> courses = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            CourseDTO course = CourseMapper.toDTO(BenchmarkData.course(rosterSize));
+            long offset = i * 7_919L;
+            course.setId(course.getId() + i);
+            // Give each course its own roster so gzip cannot reuse the previous course's IDs
+            course.setStudentIds(course.getStudentIds().stream().map(id -> id + offset).toList());
+            courses.add(course);
+        }
+        page = new CursorPage<>(courses, CursorPage.encodeCursor(courses.get(PAGE_SIZE - 1).getId()), PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSize() throws IOException {
+        byte[] raw = serialize();
+        System.out.printf("%n%s, roster %d: %d bytes, %d bytes gzipped%n", format, rosterSize, raw.length, gzip(raw).length);
+    }
+
+    /**
+     * Serialization only, as sent to a client that does not accept gzip.
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    /**
+     * Serialization followed by the gzip compression the server applies above its size threshold.
+     */
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        return gzip(serialize());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.akib.courseManagementSystem.cache;
+
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.entity.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Evicts entries from the Hibernate second-level cache.
+ * Needed where the cache cannot see a change by itself: soft deletes, which the repository
+ * {@code findById} queries filter out, and enrollments written to course_student over JDBC.
+ * When called inside a transaction the entries are evicted again after commit, so a concurrent
+ * reader cannot put the pre-commit state back into the cache.
+ */
+@Component
+public class EntityCacheEvictor {
+    private static final String COURSE_STUDENTS_ROLE = Course.class.getName() + ".students";
+    private final Cache cache;
+
+    /**
+     * Constructor for dependency injection of the EntityManagerFactory.
+     *
+     * @param entityManagerFactory The factory whose second-level cache is evicted.
+     */
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    /**
+     * Evicts a course together with its cached roster.
+     *
+     * @param courseId The ID of the course.
+     */
+    public void evictCourse(Long courseId) {
+        evict(() -> {
+            cache.evictEntityData(Course.class, courseId);
+            cache.evictCollectionData(COURSE_STUDENTS_ROLE, courseId);
+        });
+    }
+
+    /**
+     * Evicts several courses together with their cached rosters.
+     *
+     * @param courseIds The IDs of the courses whose enrollments changed.
+     */
+    public void evictCourses(Collection<Long> courseIds) {
+        evict(() -> courseIds.forEach(courseId -> {
+            cache.evictEntityData(Course.class, courseId);
+            cache.evictCollectionData(COURSE_STUDENTS_ROLE, courseId);
+        }));
+    }
+
+    /**
+     * Evicts a student.
+     *
+     * @param studentId The ID of the student.
+     */
+    public void evictStudent(Long studentId) {
+        evict(() -> cache.evictEntityData(Student.class, studentId));
+    }
+
+    /**
+     * Evicts an instructor.
+     *
+     * @param instructorId The ID of the instructor.
+     */
+    public void evictInstructor(Long instructorId) {
+        evict(() -> cache.evictEntityData(Instructor.class, instructorId));
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.akib.courseManagementSystem.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Micrometer setup for request and service timers.
+ * <ul>
+ *     <li>{@code http.server.requests} gets a {@code handler} tag naming the controller method
+ *     (e.g. {@code CourseController#enrollStudent}) next to the default method, uri and status tags.</li>
+ *     <li>{@link TimedAspect} turns the {@code @Timed} annotations on the service implementations into
+ *     {@code cms.service} timers tagged with class and method.</li>
+ * </ul>
+ * HikariCP pool metrics ({@code hikaricp.connections.*}) and Hibernate statistics are bound by Spring Boot;
+ * the latter are only collected with the {@code hibernate-metrics} profile.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Tag value used when a request was not dispatched to a controller method, e.g. static resources or 404s.
+     */
+    private static final String NO_HANDLER = "none";
+
+    /**
+     * Adds the controller method as a {@code handler} tag to the server request observations.
+     *
+     * @return The observation convention picked up by Spring MVC.
+     */
+    @Bean
+    public DefaultServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    /**
+     * Enables {@code @Timed} on Spring beans.
+     *
+     * @param meterRegistry The registry the timers are recorded in.
+     * @return The aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of("handler", handlerMethod.getBeanType().getSimpleName()
+                    + "#" + handlerMethod.getMethod().getName());
+        }
+        return KeyValue.of("handler", NO_HANDLER);
+    }
+}
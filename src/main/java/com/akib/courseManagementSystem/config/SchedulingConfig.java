@@ -0,0 +1,12 @@
+package com.akib.courseManagementSystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the {@code @Scheduled} background jobs, such as the archival of soft-deleted rows.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,44 @@
+package com.akib.courseManagementSystem.config;
+
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.fields.SparseFields;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lets responses write only the fields requested with {@code ?fields=}.
+ * The course, student and instructor DTOs get the {@value SparseFields#FILTER_ID} property filter through a
+ * mix-in, so the DTOs themselves stay free of Jackson annotations and mappers built outside Spring are not
+ * affected. Unless a response supplies its own filter, every field is written.
+ */
+@Configuration
+public class SparseFieldsConfig {
+
+    /**
+     * Adds the filter mix-ins and the write-everything default to every ObjectMapper built by Spring.
+     *
+     * @return The customizer applied by the Jackson auto-configuration.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder
+                .mixIn(CourseDTO.class, SparseFieldsMixin.class)
+                .mixIn(StudentDTO.class, SparseFieldsMixin.class)
+                .mixIn(InstructorDTO.class, SparseFieldsMixin.class)
+                .filters(new SimpleFilterProvider().addFilter(SparseFields.FILTER_ID,
+                        SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * Mix-in attaching the sparse fields filter to a DTO class.
+     */
+    @JsonFilter(SparseFields.FILTER_ID)
+    interface SparseFieldsMixin {
+    }
+}
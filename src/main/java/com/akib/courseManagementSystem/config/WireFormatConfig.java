@@ -0,0 +1,88 @@
+package com.akib.courseManagementSystem.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Response formats negotiated through the {@code Accept} header.
+ * <ul>
+ *     <li>JSON stays the default; clients may ask for Smile ({@code application/x-jackson-smile}) or
+ *     CBOR ({@code application/cbor}), binary encodings of the same documents. Smile also writes each
+ *     repeated property name of a list only once.</li>
+ *     <li>Every ObjectMapper built by Spring, JSON included, registers the {@link BlackbirdModule}, which
+ *     replaces reflective getter calls with generated lambdas.</li>
+ * </ul>
+ * The binary converters are built from the same builder as the JSON one, so they share its modules and
+ * settings. Response compression is configured with the {@code server.compression.*} properties.
+ * Since the bytes of every {@code /api} response depend on the {@code Accept} and {@code Accept-Encoding}
+ * request headers, each response names them in {@code Vary}, so shared caches keep the variants apart.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * Adds {@code Vary: Accept, Accept-Encoding} to every {@code /api} response, including 304 responses.
+     *
+     * @param registry The registry of Spring MVC interceptors.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Registers Blackbird with every ObjectMapper built by Spring's Jackson2ObjectMapperBuilder.
+     *
+     * @return The module picked up by the Jackson auto-configuration.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Reads and writes {@code application/x-jackson-smile}, with shared property names and string values.
+     *
+     * @param builder The builder configured by Spring Boot.
+     * @return The converter replacing Spring MVC's default Smile converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+
+    /**
+     * Reads and writes {@code application/cbor}.
+     *
+     * @param builder The builder configured by Spring Boot.
+     * @return The converter replacing Spring MVC's default CBOR converter.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
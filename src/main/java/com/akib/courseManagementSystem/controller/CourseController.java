@@ -1,12 +1,33 @@
 package com.akib.courseManagementSystem.controller;
 
 import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentResultDTO;
+import com.akib.courseManagementSystem.dto.ScheduledEnrollmentDTO;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.enums.CourseDateWindow;
+import com.akib.courseManagementSystem.enums.CourseSortField;
+import com.akib.courseManagementSystem.enums.RosterSortField;
+import com.akib.courseManagementSystem.enums.ScheduleConflictPolicy;
+import com.akib.courseManagementSystem.fields.SparseFields;
 import com.akib.courseManagementSystem.service.CourseService;
+import com.akib.courseManagementSystem.service.EnrollmentService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -17,15 +38,22 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/courses")
 public class CourseController {
+    /**
+     * Response header listing the overlapping course IDs of an enrollment made with the FLAG policy.
+     */
+    private static final String SCHEDULE_CONFLICTS_HEADER = "X-Schedule-Conflicts";
     private final CourseService courseService;
+    private final EnrollmentService enrollmentService;
 
     /**
-     * Constructor for dependency injection of the CourseService.
+     * Constructor for dependency injection of the CourseService and EnrollmentService.
      *
-     * @param courseService The service layer for course-related operations.
+     * @param courseService     The service layer for course-related operations.
+     * @param enrollmentService The service layer for bulk enrollments.
      */
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, EnrollmentService enrollmentService) {
         this.courseService = courseService;
+        this.enrollmentService = enrollmentService;
     }
 
     /**
@@ -40,25 +68,134 @@ public class CourseController {
     }
 
     /**
-     * Retrieves a list of all courses.
+     * Retrieves one keyset page of courses.
      *
-     * @return ResponseEntity containing a list of CourseDTOs with HTTP status 200 (OK).
+     * @param after Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit  The maximum number of courses to return.
+     * @param fields Comma-separated CourseDTO fields to read and return, e.g. {@code id,title,instructorId};
+     *               omitted for all of them.
+     * @return ResponseEntity containing a page of CourseDTOs with HTTP status 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<List<CourseDTO>> getAllCourses() {
-        return ResponseEntity.ok(courseService.getAllCourses());
+    public ResponseEntity<MappingJacksonValue> getAllCourses(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = SparseFields.parse(fields);
+        return ResponseEntity.ok(SparseFields.filter(courseService.getAllCourses(after, limit, selected), selected));
+    }
+
+    /**
+     * Retrieves one keyset page of the courses running on at least one day between two dates, both dates inclusive, ordered by start date.
+     *
+     * @param from  The first day of the window, e.g. {@code 2026-09-01}.
+     * @param to    The last day of the window.
+     * @param after Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit The maximum number of courses to return.
+     * @return ResponseEntity containing a page of CourseDTOs without student IDs with HTTP status 200 (OK).
+     */
+    @GetMapping("/active")
+    public ResponseEntity<CursorPage<CourseDTO>> getActiveCourses(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(courseService.getCoursesInWindow(CourseDateWindow.ACTIVE, from, to, after, limit));
+    }
+
+    /**
+     * Retrieves one keyset page of the courses starting between two dates, both dates inclusive, ordered by start date.
+     *
+     * @param from  The first day of the window, e.g. {@code 2026-09-01}.
+     * @param to    The last day of the window.
+     * @param after Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit The maximum number of courses to return.
+     * @return ResponseEntity containing a page of CourseDTOs without student IDs with HTTP status 200 (OK).
+     */
+    @GetMapping("/starting")
+    public ResponseEntity<CursorPage<CourseDTO>> getStartingCourses(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(courseService.getCoursesInWindow(CourseDateWindow.STARTING, from, to, after, limit));
+    }
+
+    /**
+     * Retrieves one keyset page of the courses ending between two dates, both dates inclusive, ordered by end date.
+     *
+     * @param from  The first day of the window, e.g. {@code 2026-09-01}.
+     * @param to    The last day of the window.
+     * @param after Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit The maximum number of courses to return.
+     * @return ResponseEntity containing a page of CourseDTOs without student IDs with HTTP status 200 (OK).
+     */
+    @GetMapping("/ending")
+    public ResponseEntity<CursorPage<CourseDTO>> getEndingCourses(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(courseService.getCoursesInWindow(CourseDateWindow.ENDING, from, to, after, limit));
+    }
+
+    /**
+     * Full-text searches the titles and descriptions of the courses, best match first.
+     * Soft-deleted courses are never returned.
+     *
+     * @param q    The search text, e.g. {@code data "machine learning" -intro}.
+     * @param page The zero-based page number.
+     * @param size The number of courses per page, at most 100.
+     * @return ResponseEntity containing a page of CourseDTOs without student IDs with HTTP status 200 (OK).
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<CourseDTO>> searchCourses(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.searchCourses(q, page, size));
+    }
+
+    /**
+     * Streams the full course catalog as newline-delimited JSON, one course per line.
+     * The response is written while the courses are read, so it is suitable for large nightly exports.
+     *
+     * @return ResponseEntity streaming the courses with HTTP status 200 (OK).
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(courseService::exportCourses);
     }
 
     /**
      * Retrieves a course by its ID.
+     * The response carries an ETag; when the request's If-None-Match still matches it,
+     * HTTP status 304 (Not Modified) is returned without loading the course.
      *
-     * @param id The ID of the course to retrieve.
-     * @return ResponseEntity containing the CourseDTO if found, or HTTP status 404 (Not Found) if not.
+     * @param id      The ID of the course to retrieve.
+     * @param fields  Comma-separated CourseDTO fields to read and return, omitted for all of them.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return ResponseEntity containing the CourseDTO if found, HTTP status 304 (Not Modified) if unchanged,
+     * or HTTP status 404 (Not Found) if not.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CourseDTO> getCourseById(@PathVariable Long id) {
-        return courseService.getCourseById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<MappingJacksonValue> getCourseById(@PathVariable Long id,
+                                                             @RequestParam(required = false) String fields,
+                                                             WebRequest request) {
+        Set<String> selected = SparseFields.parse(fields);
+        Optional<RepresentationETag> eTag = courseService.getCourseETag(id)
+                .map(tag -> RepresentationETag.of(tag, request, selected));
+        if (eTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(eTag.get().value())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get().value()).build();
+        }
+        return courseService.getCourseById(id, selected)
+                .map(course -> ResponseEntity.ok().eTag(eTag.get().value()).contentType(eTag.get().contentType())
+                        .body(SparseFields.filter(course, selected)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -101,44 +238,117 @@ public class CourseController {
 
     /**
      * Enrolls a student in a course.
+     * The {@code conflicts} policy decides what happens when the course dates overlap courses the student is
+     * already enrolled in: IGNORE enrolls, FLAG enrolls and lists the overlapping course IDs in the
+     * {@code X-Schedule-Conflicts} header, REJECT answers with HTTP status 409 (Conflict).
      *
      * @param courseId  The ID of the course.
      * @param studentId The ID of the student to enroll.
+     * @param conflicts The schedule conflict policy, defaulting to {@code cms.enrollment.schedule-conflicts}.
      * @return ResponseEntity containing the updated CourseDTO with HTTP status 200 (OK).
      */
     @PostMapping("/{courseId}/student/{studentId}")
-    public ResponseEntity<CourseDTO> enrollStudent(@PathVariable Long courseId, @PathVariable Long studentId) {
-        return ResponseEntity.ok(courseService.enrollStudentInCourse(courseId, studentId));
+    public ResponseEntity<CourseDTO> enrollStudent(
+            @PathVariable Long courseId,
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "${cms.enrollment.schedule-conflicts:IGNORE}") ScheduleConflictPolicy conflicts) {
+        ScheduledEnrollmentDTO enrollment = courseService.enrollStudentInCourse(courseId, studentId, conflicts);
+        if (conflicts == ScheduleConflictPolicy.FLAG && !enrollment.getScheduleConflicts().isEmpty()) {
+            return ResponseEntity.ok()
+                    .header(SCHEDULE_CONFLICTS_HEADER, enrollment.getScheduleConflicts().stream()
+                            .map(String::valueOf).collect(Collectors.joining(",")))
+                    .body(enrollment.getCourse());
+        }
+        return ResponseEntity.ok(enrollment.getCourse());
+    }
+
+    /**
+     * Removes a student from a course.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student to remove.
+     * @return ResponseEntity with HTTP status 204 (No Content) upon successful removal.
+     */
+    @DeleteMapping("/{courseId}/student/{studentId}")
+    public ResponseEntity<Void> unenrollStudent(@PathVariable Long courseId, @PathVariable Long studentId) {
+        courseService.unenrollStudentFromCourse(courseId, studentId);
+        return ResponseEntity.noContent().build();
     }
 
     /**
-     * Retrieves all courses taught by a specific instructor.
+     * Enrolls many students in a course in a single transaction.
      *
-     * @param instructorId The ID of the instructor.
+     * @param courseId   The ID of the course.
+     * @param studentIds The IDs of the students to enroll.
+     * @return ResponseEntity containing one EnrollmentResultDTO per student with HTTP status 200 (OK).
+     */
+    @PostMapping("/{courseId}/students:batch")
+    public ResponseEntity<List<EnrollmentResultDTO>> enrollStudents(@PathVariable Long courseId,
+                                                                    @RequestBody List<Long> studentIds) {
+        return ResponseEntity.ok(enrollmentService.enrollStudents(courseId, studentIds));
+    }
+
+    /**
+     * Enrolls arbitrary (course, student) pairs in a single transaction.
+     *
+     * @param pairs The pairs to enroll.
+     * @return ResponseEntity containing one EnrollmentResultDTO per pair with HTTP status 200 (OK).
+     */
+    @PostMapping("/enrollments:batch")
+    public ResponseEntity<List<EnrollmentResultDTO>> enrollPairs(@RequestBody List<EnrollmentRequestDTO> pairs) {
+        return ResponseEntity.ok(enrollmentService.enrollPairs(pairs));
+    }
+
+    /**
+     * Retrieves the courses taught by a specific instructor, optionally filtered and sorted by enrollment count.
+     *
+     * @param instructorId    The ID of the instructor.
+     * @param minEnrollment   The minimum number of enrolled students a course must have.
+     * @param sortBy          The field to sort the courses by, e.g. ENROLLMENT_COUNT.
+     * @param direction       The sort direction, ASC or DESC.
+     * @param includeStudents Whether to include the student IDs of each course; false skips reading the rosters.
      * @return ResponseEntity containing a list of CourseDTOs with HTTP status 200 (OK).
      */
     @GetMapping("/instructor/{instructorId}")
-    public ResponseEntity<List<CourseDTO>> getCoursesByInstructor(@PathVariable Long instructorId) {
-        return ResponseEntity.ok(courseService.getCoursesByInstructor(instructorId));
+    public ResponseEntity<List<CourseDTO>> getCoursesByInstructor(
+            @PathVariable Long instructorId,
+            @RequestParam(defaultValue = "0") int minEnrollment,
+            @RequestParam(defaultValue = "ID") CourseSortField sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(defaultValue = "true") boolean includeStudents) {
+        return ResponseEntity.ok(courseService.getCoursesByInstructor(
+                instructorId, minEnrollment, sortBy, direction, includeStudents));
     }
 
     /**
-     * Retrieves all students enrolled in a specific course.
+     * Retrieves one keyset page of the students enrolled in a specific course.
+     * Soft-deleted students are left out. The response carries an ETag of the whole roster; when the
+     * request's If-None-Match still matches it, HTTP status 304 (Not Modified) is returned without reading the page.
      *
-     * @param courseId The ID of the course.
-     * @return ResponseEntity containing a list of StudentDTOs with HTTP status 200 (OK).
+     * @param courseId  The ID of the course.
+     * @param after     Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit     The maximum number of students to return.
+     * @param sortBy    The field to sort the students by: ID, NAME or EMAIL.
+     * @param direction The sort direction, ASC or DESC.
+     * @param request   The current request, used to evaluate If-None-Match.
+     * @return ResponseEntity containing a page of StudentDTOs with HTTP status 200 (OK),
+     * or HTTP status 304 (Not Modified) if unchanged.
      */
     @GetMapping("/{courseId}/students")
-    public ResponseEntity<List<StudentDTO>> getStudentsInCourse(@PathVariable Long courseId) {
-        // Convert Student entities to StudentDTOs for response
-        return ResponseEntity.ok(courseService.getStudentsInCourse(courseId).stream()
-                .map(student -> {
-                    StudentDTO dto = new StudentDTO();
-                    dto.setId(student.getId());
-                    dto.setName(student.getName());
-                    dto.setEmail(student.getEmail());
-                    return dto;
-                })
-                .collect(Collectors.toList()));
-    }
-}
\ No newline at end of file
+    public ResponseEntity<CursorPage<StudentDTO>> getStudentsInCourse(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "ID") RosterSortField sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            WebRequest request) {
+        Optional<RepresentationETag> eTag = courseService.getRosterETag(courseId)
+                .map(tag -> RepresentationETag.of(tag, request));
+        if (eTag.isPresent() && request.checkNotModified(eTag.get().value())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get().value()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag.map(RepresentationETag::value).orElse(null))
+                .contentType(eTag.map(RepresentationETag::contentType).orElse(null))
+                .body(courseService.getStudentsInCourse(courseId, after, limit, sortBy, direction));
+    }
+}
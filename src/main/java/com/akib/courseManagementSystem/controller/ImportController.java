@@ -0,0 +1,50 @@
+package com.akib.courseManagementSystem.controller;
+
+import com.akib.courseManagementSystem.dto.ImportSummaryDTO;
+import com.akib.courseManagementSystem.enums.ImportEntityType;
+import com.akib.courseManagementSystem.service.ImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for bulk importing students, instructors and courses from CSV.
+ */
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    private final ImportService importService;
+
+    /**
+     * Constructor for dependency injection of the ImportService.
+     *
+     * @param importService The service layer for CSV imports.
+     */
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Imports a CSV document. The request body is read as a stream, so it is never held in memory as a whole.
+     *
+     * @param entity The kind of records to import: {@code students}, {@code instructors} or {@code courses}.
+     * @param body   The CSV document, starting with a header row.
+     * @return ResponseEntity containing the ImportSummaryDTO with HTTP status 200 (OK),
+     * or HTTP status 400 (Bad Request) if the entity or the header is not recognized.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PostMapping(value = "/{entity}", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<ImportSummaryDTO> importCsv(@PathVariable String entity, InputStream body) throws IOException {
+        ImportEntityType type = ImportEntityType.fromPath(entity).orElse(null);
+        if (type == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(importService.importCsv(type, body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
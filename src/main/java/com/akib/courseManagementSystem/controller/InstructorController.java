@@ -1,12 +1,18 @@
 package com.akib.courseManagementSystem.controller;
 
 import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+import com.akib.courseManagementSystem.fields.SparseFields;
 import com.akib.courseManagementSystem.service.InstructorService;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST controller for managing instructors in the course management system.
@@ -40,24 +46,59 @@ public class InstructorController {
     /**
      * Retrieves a list of all instructors.
      *
+     * @param page   The zero-based page number.
+     * @param size   The page size.
+     * @param fields Comma-separated InstructorDTO fields to read and return, e.g. {@code id,name}; omitted for all of them.
      * @return ResponseEntity containing a list of InstructorDTOs with HTTP status 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<Page<InstructorDTO>> getAllInstructors(
+    public ResponseEntity<MappingJacksonValue> getAllInstructors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(instructorService.getAllInstructors(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = SparseFields.parse(fields);
+        return ResponseEntity.ok(SparseFields.filter(instructorService.getAllInstructors(page, size, selected), selected));
+    }
+
+    /**
+     * Finds instructors while the user is still typing their name or email.
+     * Every word of the query must be the beginning of a word in the name or email of a match.
+     *
+     * @param q     The text typed so far.
+     * @param limit The maximum number of matches to return, at most 50.
+     * @return ResponseEntity containing the matching instructors with HTTP status 200 (OK).
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TypeaheadHitDTO>> searchInstructors(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(instructorService.searchInstructors(q, limit));
     }
 
     /**
      * Retrieves an instructor by their ID.
+     * The response carries an ETag; when the request's If-None-Match still matches it,
+     * HTTP status 304 (Not Modified) is returned without loading the instructor.
      *
-     * @param id The ID of the instructor to retrieve.
-     * @return ResponseEntity containing the InstructorDTO with HTTP status 200 (OK).
+     * @param id      The ID of the instructor to retrieve.
+     * @param fields  Comma-separated InstructorDTO fields to read and return, omitted for all of them.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return ResponseEntity containing the InstructorDTO with HTTP status 200 (OK),
+     * or HTTP status 304 (Not Modified) if unchanged.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<InstructorDTO> getInstructorById(@PathVariable Long id) {
-        return ResponseEntity.ok(instructorService.getInstructorById(id));
+    public ResponseEntity<MappingJacksonValue> getInstructorById(@PathVariable Long id,
+                                                                 @RequestParam(required = false) String fields,
+                                                                 WebRequest request) {
+        Set<String> selected = SparseFields.parse(fields);
+        Optional<RepresentationETag> eTag = instructorService.getInstructorETag(id)
+                .map(tag -> RepresentationETag.of(tag, request, selected));
+        if (eTag.isPresent() && request.checkNotModified(eTag.get().value())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get().value()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag.map(RepresentationETag::value).orElse(null))
+                .contentType(eTag.map(RepresentationETag::contentType).orElse(null))
+                .body(SparseFields.filter(instructorService.getInstructorById(id, selected), selected));
     }
 
     /**
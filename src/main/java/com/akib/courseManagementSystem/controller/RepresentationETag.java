@@ -0,0 +1,118 @@
+package com.akib.courseManagementSystem.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ETag of one representation of a resource, for the conditional GET endpoints.
+ * <p>
+ * The services derive an ETag from the row versions, which identifies the state of a resource. That state is
+ * written as JSON, Smile or CBOR depending on the {@code Accept} header, each with different bytes, so the
+ * format is added to the tag and the response is sent with that format as its content type so that the body
+ * always matches the tag. The sparse fieldset of the request, if any, is added to the tag as well, so a
+ * sparse and a full representation never validate each other. The tag is weak: a response may still be
+ * gzip-compressed in transit (Tomcat leaves responses with a strong ETag uncompressed), and every {@code /api}
+ * response carries {@code Vary: Accept, Accept-Encoding}
+ * (see {@link com.akib.courseManagementSystem.config.WireFormatConfig}).
+ */
+final class RepresentationETag {
+
+    /**
+     * The Smile media type, which {@link MediaType} has no constant for.
+     */
+    static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final List<MediaType> FORMATS =
+            List.of(MediaType.APPLICATION_JSON, APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
+    private final String value;
+    private final MediaType contentType;
+
+    private RepresentationETag(String value, MediaType contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Derives the ETag of the representation the request will receive.
+     *
+     * @param versionETag The quoted ETag of the resource state, from the service.
+     * @param request     The current request, whose {@code Accept} header selects the format.
+     * @return The representation ETag.
+     */
+    static RepresentationETag of(String versionETag, WebRequest request) {
+        return of(versionETag, request, null);
+    }
+
+    /**
+     * Derives the ETag of the representation the request will receive, limited to a sparse fieldset.
+     *
+     * @param versionETag The quoted ETag of the resource state, from the service.
+     * @param request     The current request, whose {@code Accept} header selects the format.
+     * @param fields      The requested fields, as parsed by
+     *                    {@link com.akib.courseManagementSystem.fields.SparseFields#parse(String)}, or null for all.
+     * @return The representation ETag.
+     */
+    static RepresentationETag of(String versionETag, WebRequest request, Set<String> fields) {
+        MediaType format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        StringBuilder tag = new StringBuilder("W/\"")
+                .append(versionETag, 1, versionETag.length() - 1)
+                .append('-')
+                .append(format == null ? MediaType.APPLICATION_JSON.getSubtype() : format.getSubtype());
+        if (fields != null) {
+            // The order of the requested fields does not change the body
+            tag.append("-fields=").append(String.join(",", new TreeSet<>(fields)));
+        }
+        return new RepresentationETag(tag.append('"').toString(), format);
+    }
+
+    /**
+     * @return The weak ETag, quoted.
+     */
+    String value() {
+        return value;
+    }
+
+    /**
+     * @return The format the response is written in, or null if the request accepts none of them, in which
+     * case content negotiation rejects the request.
+     */
+    MediaType contentType() {
+        return contentType;
+    }
+
+    /**
+     * Picks the first format the {@code Accept} header allows, most specific and highest quality first,
+     * JSON for a missing, wildcard or unreadable header.
+     */
+    private static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType format : FORMATS) {
+                if (mediaType.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
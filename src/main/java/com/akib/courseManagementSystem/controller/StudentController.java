@@ -1,11 +1,21 @@
 package com.akib.courseManagementSystem.controller;
 
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+import com.akib.courseManagementSystem.fields.SparseFields;
+import com.akib.courseManagementSystem.service.ScheduleService;
 import com.akib.courseManagementSystem.service.StudentService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST controller for managing students in the course management system.
@@ -15,14 +25,17 @@ import java.util.List;
 @RequestMapping("/api/students")
 public class StudentController {
     private final StudentService studentService;
+    private final ScheduleService scheduleService;
 
     /**
-     * Constructor for dependency injection of the StudentService.
+     * Constructor for dependency injection of the StudentService and ScheduleService.
      *
-     * @param studentService The service layer for student-related operations.
+     * @param studentService  The service layer for student-related operations.
+     * @param scheduleService The service layer for student schedules.
      */
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, ScheduleService scheduleService) {
         this.studentService = studentService;
+        this.scheduleService = scheduleService;
     }
 
     /**
@@ -37,24 +50,73 @@ public class StudentController {
     }
 
     /**
-     * Retrieves a list of all students.
+     * Retrieves one keyset page of students.
      *
-     * @return ResponseEntity containing a list of StudentDTOs with HTTP status 200 (OK).
+     * @param after Opaque cursor returned as {@code nextCursor} by the previous page, omitted for the first page.
+     * @param limit  The maximum number of students to return.
+     * @param fields Comma-separated StudentDTO fields to read and return, e.g. {@code id,name}; omitted for all of them.
+     * @return ResponseEntity containing a page of StudentDTOs with HTTP status 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<List<StudentDTO>> getAllStudents() {
-        return ResponseEntity.ok(studentService.getAllStudents());
+    public ResponseEntity<MappingJacksonValue> getAllStudents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = SparseFields.parse(fields);
+        return ResponseEntity.ok(SparseFields.filter(studentService.getAllStudents(after, limit, selected), selected));
+    }
+
+    /**
+     * Finds students while the user is still typing their name or email.
+     * Every word of the query must be the beginning of a word in the name or email of a match.
+     *
+     * @param q     The text typed so far.
+     * @param limit The maximum number of matches to return, at most 50.
+     * @return ResponseEntity containing the matching students with HTTP status 200 (OK).
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TypeaheadHitDTO>> searchStudents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(studentService.searchStudents(q, limit));
     }
 
     /**
      * Retrieves a student by their ID.
+     * The response carries an ETag; when the request's If-None-Match still matches it,
+     * HTTP status 304 (Not Modified) is returned without loading the student.
      *
-     * @param id The ID of the student to retrieve.
-     * @return ResponseEntity containing the StudentDTO with HTTP status 200 (OK).
+     * @param id      The ID of the student to retrieve.
+     * @param fields  Comma-separated StudentDTO fields to read and return, omitted for all of them.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return ResponseEntity containing the StudentDTO with HTTP status 200 (OK),
+     * or HTTP status 304 (Not Modified) if unchanged.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<StudentDTO> getStudentById(@PathVariable Long id) {
-        return ResponseEntity.ok(studentService.getStudentById(id));
+    public ResponseEntity<MappingJacksonValue> getStudentById(@PathVariable Long id,
+                                                              @RequestParam(required = false) String fields,
+                                                              WebRequest request) {
+        Set<String> selected = SparseFields.parse(fields);
+        Optional<RepresentationETag> eTag = studentService.getStudentETag(id)
+                .map(tag -> RepresentationETag.of(tag, request, selected));
+        if (eTag.isPresent() && request.checkNotModified(eTag.get().value())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get().value()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag.map(RepresentationETag::value).orElse(null))
+                .contentType(eTag.map(RepresentationETag::contentType).orElse(null))
+                .body(SparseFields.filter(studentService.getStudentById(id, selected), selected));
+    }
+
+    /**
+     * Retrieves the courses of a student ordered by start date.
+     * Each course lists the student's other courses whose dates overlap it.
+     *
+     * @param id The ID of the student.
+     * @return ResponseEntity containing the schedule with HTTP status 200 (OK).
+     */
+    @GetMapping("/{id}/schedule")
+    public ResponseEntity<List<ScheduleEntryDTO>> getSchedule(@PathVariable Long id) {
+        return ResponseEntity.ok(scheduleService.getSchedule(id));
     }
 
     /**
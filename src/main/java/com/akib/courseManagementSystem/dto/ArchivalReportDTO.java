@@ -0,0 +1,41 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) reporting what one archival run moved into the archive tables.
+ */
+@Data
+public class ArchivalReportDTO {
+    /**
+     * Rows soft deleted before this time were eligible for archiving.
+     */
+    private LocalDateTime cutoff;
+
+    /**
+     * Number of archived courses.
+     */
+    private long courses;
+
+    /**
+     * Number of archived students.
+     */
+    private long students;
+
+    /**
+     * Number of archived instructors.
+     */
+    private long instructors;
+
+    /**
+     * Number of archived course_student rows.
+     */
+    private long enrollments;
+
+    /**
+     * Duration of the run in milliseconds.
+     */
+    private long durationMillis;
+}
@@ -41,6 +41,16 @@ public class CourseDTO {
      */
     private Long instructorId;
 
+    /**
+     * The maximum number of students that can enroll in the course, or null for no limit.
+     */
+    private Integer capacity;
+
+    /**
+     * The number of students enrolled in the course. Read-only; ignored when a course is created or updated.
+     */
+    private Integer enrollmentCount;
+
     /**
      * List of identifiers for students enrolled in the course.
      */
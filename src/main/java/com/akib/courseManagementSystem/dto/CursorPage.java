@@ -0,0 +1,146 @@
+package com.akib.courseManagementSystem.dto;
+
+import com.akib.courseManagementSystem.exception.InvalidRequestParameterException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Data Transfer Object (DTO) for a single page of a keyset (cursor) paginated listing.
+ * Holds the items of the page and an opaque cursor that the client passes back as
+ * {@code after} to fetch the next page. The cursor is null when there are no more items.
+ *
+ * @param <T> The type of the items in the page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    /**
+     * Upper bound for the page size a client may request.
+     */
+    public static final int MAX_LIMIT = 500;
+
+    /**
+     * The items contained in this page.
+     */
+    private List<T> items;
+
+    /**
+     * Opaque cursor pointing after the last item of this page, or null on the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * The maximum number of items that was requested for this page.
+     */
+    private int limit;
+
+    /**
+     * Builds a page from a result list that was fetched with {@code limit + 1} rows.
+     * The extra row only signals that another page exists and is not returned.
+     *
+     * @param rows     The fetched rows, at most {@code limit + 1} of them.
+     * @param limit    The requested page size.
+     * @param cursorOf Function extracting the cursor value of a row.
+     * @param <T>      The type of the items in the page.
+     * @return The page with its next cursor.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> cursorOf) {
+        if (rows.size() > limit) {
+            List<T> items = rows.subList(0, limit);
+            return new CursorPage<>(items, encodeCursor(cursorOf.apply(items.get(limit - 1))), limit);
+        }
+        return new CursorPage<>(rows, null, limit);
+    }
+
+    /**
+     * Builds a page from a result list that was fetched with {@code limit + 1} rows, for listings ordered by
+     * more than one column. The cursor carries the whole sort key of the last row instead of just its ID.
+     *
+     * @param rows  The fetched rows, at most {@code limit + 1} of them.
+     * @param limit The requested page size.
+     * @param keyOf Function extracting the sort key of a row, as a string.
+     * @param <T>   The type of the items in the page.
+     * @return The page with its next cursor.
+     */
+    public static <T> CursorPage<T> ofKeys(List<T> rows, int limit, Function<T, String> keyOf) {
+        if (rows.size() > limit) {
+            List<T> items = rows.subList(0, limit);
+            return new CursorPage<>(items, encodeKeyCursor(keyOf.apply(items.get(limit - 1))), limit);
+        }
+        return new CursorPage<>(rows, null, limit);
+    }
+
+    /**
+     * Clamps a client supplied page size into the range {@code 1..MAX_LIMIT}.
+     *
+     * @param limit The requested page size.
+     * @return The page size that will actually be used.
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Encodes the last seen ID into an opaque, URL-safe cursor.
+     *
+     * @param lastId The ID of the last item of a page.
+     * @return The encoded cursor.
+     */
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes the sort key of the last item into an opaque, URL-safe cursor.
+     *
+     * @param key The sort key of the last item of a page.
+     * @return The encoded cursor.
+     */
+    public static String encodeKeyCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeKeyCursor(String)}.
+     *
+     * @param cursor The opaque cursor, may be null or blank for the first page.
+     * @return The sort key of the last seen item, or null when no cursor was given.
+     * @throws InvalidRequestParameterException if the cursor is malformed.
+     */
+    public static String decodeKeyCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(Long)}.
+     *
+     * @param cursor The opaque cursor, may be null or blank for the first page.
+     * @return The last seen ID, or 0 when no cursor was given.
+     * @throws InvalidRequestParameterException if the cursor is malformed.
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestParameterException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
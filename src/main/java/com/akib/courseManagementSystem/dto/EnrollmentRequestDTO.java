@@ -0,0 +1,23 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a single (course, student) pair of a bulk enrollment request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentRequestDTO {
+    /**
+     * The identifier of the course to enroll the student in.
+     */
+    private Long courseId;
+
+    /**
+     * The identifier of the student to enroll.
+     */
+    private Long studentId;
+}
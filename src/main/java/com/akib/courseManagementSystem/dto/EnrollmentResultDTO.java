@@ -0,0 +1,29 @@
+package com.akib.courseManagementSystem.dto;
+
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of one (course, student) pair of a bulk enrollment.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentResultDTO {
+    /**
+     * The identifier of the course.
+     */
+    private Long courseId;
+
+    /**
+     * The identifier of the student.
+     */
+    private Long studentId;
+
+    /**
+     * What happened to this pair.
+     */
+    private EnrollmentStatus status;
+}
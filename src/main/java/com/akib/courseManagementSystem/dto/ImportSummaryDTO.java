@@ -0,0 +1,32 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarizing the outcome of a CSV bulk import.
+ */
+@Data
+public class ImportSummaryDTO {
+    /**
+     * The kind of records that were imported, e.g. {@code students}.
+     */
+    private String entity;
+
+    /**
+     * Number of data rows read from the input, excluding the header.
+     */
+    private long totalRows;
+
+    /**
+     * Number of rows that were stored.
+     */
+    private long importedRows;
+
+    /**
+     * The rows that were not stored, with the reason for each.
+     */
+    private List<RejectedRowDTO> rejectedRows = new ArrayList<>();
+}
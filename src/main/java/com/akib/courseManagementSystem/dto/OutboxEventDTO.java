@@ -0,0 +1,47 @@
+package com.akib.courseManagementSystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for an event read from the transactional outbox and handed to the sinks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDTO {
+    /**
+     * The ID of the event; events are published in ascending ID order.
+     */
+    private Long id;
+
+    /**
+     * The type of the changed aggregate: course, student or instructor.
+     */
+    private String aggregateType;
+
+    /**
+     * The ID of the changed aggregate.
+     */
+    private Long aggregateId;
+
+    /**
+     * The kind of change, e.g. STUDENT_ENROLLED.
+     */
+    private String eventType;
+
+    /**
+     * The event details as a JSON document; serialized as-is.
+     */
+    @JsonRawValue
+    private String payload;
+
+    /**
+     * The time the change was committed.
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing a CSV row that was not imported.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedRowDTO {
+    /**
+     * The line of the CSV input on which the row starts.
+     */
+    private long line;
+
+    /**
+     * Why the row was rejected.
+     */
+    private String reason;
+}
@@ -0,0 +1,42 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one course of a student's schedule.
+ * Lists the other courses of the same student whose date ranges overlap this one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleEntryDTO {
+    /**
+     * The identifier of the course.
+     */
+    private Long courseId;
+
+    /**
+     * The title of the course.
+     */
+    private String title;
+
+    /**
+     * The first day of the course, or null if not scheduled yet.
+     */
+    private LocalDate startDate;
+
+    /**
+     * The last day of the course, or null if not scheduled yet.
+     */
+    private LocalDate endDate;
+
+    /**
+     * The IDs of the student's other courses that overlap this one, ordered by start date.
+     */
+    private List<Long> conflictsWith;
+}
@@ -0,0 +1,28 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of an enrollment checked against the student's schedule.
+ * Holds the course after the enrollment and the student's overlapping courses, as seen by the transaction
+ * that enrolled the student.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledEnrollmentDTO {
+    /**
+     * The course the student was enrolled in.
+     */
+    private CourseDTO course;
+
+    /**
+     * The IDs of the student's other courses overlapping this one, ordered by start date;
+     * empty when the schedule was not checked.
+     */
+    private List<Long> scheduleConflicts;
+}
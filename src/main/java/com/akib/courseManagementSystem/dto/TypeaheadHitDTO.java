@@ -0,0 +1,28 @@
+package com.akib.courseManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for a single search-as-you-type match on a student or instructor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypeaheadHitDTO {
+    /**
+     * The identifier of the student or instructor.
+     */
+    private Long id;
+
+    /**
+     * The name of the student or instructor.
+     */
+    private String name;
+
+    /**
+     * The email address of the student or instructor.
+     */
+    private String email;
+}
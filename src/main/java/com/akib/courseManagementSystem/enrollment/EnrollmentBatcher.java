@@ -0,0 +1,228 @@
+package com.akib.courseManagementSystem.enrollment;
+
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentResultDTO;
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import com.akib.courseManagementSystem.service.EnrollmentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit for single enrollments.
+ * Concurrent {@link #enroll(Long, Long)} calls are queued and a background thread merges the requests that
+ * arrive within {@code cms.enrollment.batching.window} (2ms) of the first one, up to
+ * {@code cms.enrollment.batching.max-size} (256), into one {@link EnrollmentService#enrollPairs(List)} call:
+ * one transaction with one batched insert instead of one transaction per request.
+ * Every caller still gets the outcome of its own pair. Should a batch fail as a whole, its pairs are retried
+ * one by one, so a single bad pair cannot fail the others.
+ * Batch sizes are published as the {@code cms.enrollment.batch.size} distribution.
+ * <p>
+ * Each of the {@code cms.enrollment.batching.flushers} (1) background threads writes one batch at a time, so
+ * with a single flusher a slow batch holds up every enrollment queued behind it. More flushers write batches in
+ * parallel; batches enrolling in the same course still wait for each other on the course rows, which every
+ * batch locks in ID order, so concurrent batches cannot deadlock.
+ * Enabled with {@code cms.enrollment.batching.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "cms.enrollment.batching.enabled", havingValue = "true")
+public class EnrollmentBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentBatcher.class);
+    /**
+     * How long an idle flusher waits for a request before checking whether the batcher is stopping.
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+    private final EnrollmentService enrollmentService;
+    private final DistributionSummary batchSizes;
+    private final long windowNanos;
+    private final long timeoutNanos;
+    private final int maxSize;
+    private final int flusherCount;
+    private final BlockingQueue<PendingEnrollment> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> flushers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param enrollmentService the service writing each batch in one transaction.
+     * @param meterRegistry     the registry the batch sizes are reported to.
+     * @param window            how long the first request of a batch waits for more requests.
+     * @param maxSize           the maximum number of requests per batch.
+     * @param flusherCount      the number of threads writing batches in parallel.
+     * @param timeout           how long a caller waits for its batch to commit before its enrollment fails.
+     */
+    public EnrollmentBatcher(EnrollmentService enrollmentService,
+                             MeterRegistry meterRegistry,
+                             @Value("${cms.enrollment.batching.window:2ms}") Duration window,
+                             @Value("${cms.enrollment.batching.max-size:256}") int maxSize,
+                             @Value("${cms.enrollment.batching.flushers:1}") int flusherCount,
+                             @Value("${cms.enrollment.batching.timeout:5s}") Duration timeout) {
+        this.enrollmentService = enrollmentService;
+        this.batchSizes = DistributionSummary.builder("cms.enrollment.batch.size")
+                .description("Single enrollments written per transaction")
+                .register(meterRegistry);
+        this.windowNanos = window.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.maxSize = maxSize;
+        this.flusherCount = Math.max(1, flusherCount);
+    }
+
+    /**
+     * Starts the background threads that write the batches.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < flusherCount; i++) {
+            flushers.add(Thread.ofPlatform().name("enrollment-batcher-" + i).daemon().start(this::flushLoop));
+        }
+    }
+
+    /**
+     * Stops the background threads after their batches in progress; requests still queued are failed.
+     * The flushers are not interrupted, so a batch that was already taken from the queue is always written
+     * and its callers get their results.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread flusher : flushers) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingEnrollment> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(EnrollmentBatcher::reject);
+    }
+
+    /**
+     * Queues an enrollment for the next batch.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student.
+     * @return A future completed with the outcome of this enrollment once its batch is committed, or with a
+     * TimeoutException if that takes longer than {@code cms.enrollment.batching.timeout} (5s). A request that
+     * times out while still queued is never written.
+     */
+    public CompletableFuture<EnrollmentStatus> enroll(Long courseId, Long studentId) {
+        PendingEnrollment pending = new PendingEnrollment(new EnrollmentRequestDTO(courseId, studentId),
+                new CompletableFuture<EnrollmentStatus>().orTimeout(timeoutNanos, TimeUnit.NANOSECONDS));
+        if (!running) {
+            reject(pending);
+            return pending.result();
+        }
+        queue.add(pending);
+        // stop() may have drained the queue between the check and the add; whoever removes it completes it
+        if (!running && queue.remove(pending)) {
+            reject(pending);
+        }
+        return pending.result();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            List<PendingEnrollment> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // Callers that gave up while their request was queued must not be enrolled behind their back
+            batch.removeIf(pending -> pending.result().isDone());
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                flush(batch);
+            } catch (Throwable e) {
+                // Even an Error must not end the flusher, or this batch and every later request would wait forever
+                logger.error("Enrollment batch of {} failed", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction, or its pairs one by one if the batch fails as a whole.
+     */
+    private void flush(List<PendingEnrollment> batch) {
+        batchSizes.record(batch.size());
+        try {
+            complete(batch, enrollmentService.enrollPairs(pairsOf(batch)));
+        } catch (RuntimeException e) {
+            logger.warn("Enrollment batch of {} failed, retrying one by one", batch.size(), e);
+            for (PendingEnrollment pending : batch) {
+                try {
+                    complete(List.of(pending), enrollmentService.enrollPairs(pairsOf(List.of(pending))));
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the first request, then collects more until the window closes or the batch is full.
+     *
+     * @return The batch, or an empty list if no request arrived while idle.
+     */
+    private List<PendingEnrollment> nextBatch() throws InterruptedException {
+        List<PendingEnrollment> batch = new ArrayList<>();
+        PendingEnrollment first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxSize) {
+            queue.drainTo(batch, maxSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxSize || remaining <= 0) {
+                break;
+            }
+            PendingEnrollment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private static void reject(PendingEnrollment pending) {
+        pending.result().completeExceptionally(new IllegalStateException("Enrollment batcher is shut down"));
+    }
+
+    private static List<EnrollmentRequestDTO> pairsOf(List<PendingEnrollment> batch) {
+        return batch.stream().map(PendingEnrollment::pair).collect(Collectors.toList());
+    }
+
+    /**
+     * Hands each caller its own result; results come back in request order.
+     */
+    private static void complete(List<PendingEnrollment> batch, List<EnrollmentResultDTO> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i).getStatus());
+        }
+    }
+
+    private record PendingEnrollment(EnrollmentRequestDTO pair, CompletableFuture<EnrollmentStatus> result) {
+    }
+}
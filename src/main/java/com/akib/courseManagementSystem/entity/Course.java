@@ -2,6 +2,8 @@ package com.akib.courseManagementSystem.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime; // Added for deletedAt
 import java.util.ArrayList;
@@ -11,8 +13,11 @@ import java.util.List;
  * Represents a course in the course management system.
  * This entity defines the structure and relationships for a course,
  * including its title, description, dates, instructor, and enrolled students.
+ * Courses are held in the second-level cache; see application.conf for its limits.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 @Table(name = "courses", schema = "cms")
 @Data
 @NoArgsConstructor
@@ -20,10 +25,12 @@ import java.util.List;
 @Builder
 public class Course {
     /**
-     * Unique identifier for the course, automatically generated.
+     * Unique identifier for the course, allocated in blocks of 50 from the courses_id_seq sequence
+     * so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "courses_id_seq", schema = "cms", allocationSize = 50)
     private Long id;
 
     /**
@@ -52,6 +59,26 @@ public class Course {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * Maximum number of students that can enroll in the course, or null for no limit.
+     */
+    private Integer capacity;
+
+    /**
+     * Number of students enrolled in the course.
+     * Maintained by the database writes on the course_student join table, never by Hibernate,
+     * so it is neither inserted nor updated from the entity.
+     */
+    @Column(name = "enrollment_count", insertable = false, updatable = false)
+    private int enrollmentCount;
+
+    /**
+     * Row version, incremented on every change to the course or its roster.
+     * Used for optimistic locking and to derive the ETag of the course.
+     */
+    @Version
+    private Long version;
+
     /**
      * The instructor assigned to teach the course.
      * Represents a many-to-one relationship with the Instructor entity.
@@ -64,7 +91,9 @@ public class Course {
      * List of students enrolled in the course.
      * Represents a many-to-many relationship with the Student entity,
      * mapped through the course_student join table.
+     * The student IDs of a roster are kept in the second-level cache.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-students")
     @ManyToMany
     @JoinTable(
             name = "course_student",
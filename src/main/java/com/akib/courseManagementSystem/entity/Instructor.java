@@ -2,6 +2,8 @@ package com.akib.courseManagementSystem.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +15,8 @@ import java.util.List;
  * including their name, email, and the courses they teach.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "instructor")
 @Table(name = "instructor", schema = "cms")
 @Data
 @NoArgsConstructor
@@ -20,10 +24,12 @@ import java.util.List;
 @Builder
 public class Instructor {
     /**
-     * Unique identifier for the instructor, automatically generated.
+     * Unique identifier for the instructor, allocated in blocks of 50 from the instructor_id_seq sequence
+     * so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instructor_seq")
+    @SequenceGenerator(name = "instructor_seq", sequenceName = "instructor_id_seq", schema = "cms", allocationSize = 50)
     private Long id;
 
     /**
@@ -43,6 +49,13 @@ public class Instructor {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * Row version, incremented on every change to the instructor.
+     * Used for optimistic locking and to derive the ETag of the instructor.
+     */
+    @Version
+    private Long version;
+
     /**
      * List of courses taught by the instructor.
      * Represents a one-to-many relationship with the Course entity,
@@ -2,6 +2,8 @@ package com.akib.courseManagementSystem.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,6 +15,8 @@ import java.util.List;
  * including their name, email, and the courses they are enrolled in.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "student")
 @Table(name = "students", schema = "cms")
 @Data
 @NoArgsConstructor
@@ -20,10 +24,12 @@ import java.util.List;
 @Builder
 public class Student {
     /**
-     * Unique identifier for the student, automatically generated.
+     * Unique identifier for the student, allocated in blocks of 50 from the students_id_seq sequence
+     * so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_id_seq", schema = "cms", allocationSize = 50)
     private Long id;
 
     /**
@@ -43,6 +49,13 @@ public class Student {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /**
+     * Row version, incremented on every change to the student.
+     * Used for optimistic locking and to derive the ETag of the student.
+     */
+    @Version
+    private Long version;
+
     /**
      * List of courses the student is enrolled in.
      * Represents a many-to-many relationship with the Course entity,
@@ -0,0 +1,19 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * Ways a course can fall into a window of dates.
+ */
+public enum CourseDateWindow {
+    /**
+     * The course runs on at least one day of the window; ordered by start date.
+     */
+    ACTIVE,
+    /**
+     * The course starts within the window; ordered by start date.
+     */
+    STARTING,
+    /**
+     * The course ends within the window; ordered by end date.
+     */
+    ENDING
+}
@@ -0,0 +1,25 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * Fields a course listing can be sorted by.
+ */
+public enum CourseSortField {
+    ID("id"),
+    TITLE("title"),
+    START_DATE("startDate"),
+    END_DATE("endDate"),
+    ENROLLMENT_COUNT("enrollmentCount");
+
+    private final String property;
+
+    CourseSortField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return The name of the corresponding Course entity property.
+     */
+    public String getProperty() {
+        return property;
+    }
+}
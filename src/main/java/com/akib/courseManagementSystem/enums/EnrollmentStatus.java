@@ -0,0 +1,31 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * Outcome of a single (course, student) pair in an enrollment request.
+ */
+public enum EnrollmentStatus {
+    /**
+     * The student was enrolled in the course by this request.
+     */
+    ENROLLED,
+
+    /**
+     * The student was already enrolled in the course; nothing was written.
+     */
+    ALREADY_ENROLLED,
+
+    /**
+     * Every seat of the course is taken; nothing was written.
+     */
+    COURSE_FULL,
+
+    /**
+     * The course does not exist or has been soft-deleted.
+     */
+    COURSE_NOT_FOUND,
+
+    /**
+     * The student does not exist or has been soft-deleted.
+     */
+    STUDENT_NOT_FOUND
+}
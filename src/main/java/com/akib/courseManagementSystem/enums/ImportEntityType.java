@@ -0,0 +1,48 @@
+package com.akib.courseManagementSystem.enums;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kinds of records that can be bulk imported from CSV, with the header columns each one requires.
+ * Courses may additionally have {@code description}, {@code start_date}, {@code end_date}
+ * and {@code instructor_id} columns.
+ */
+public enum ImportEntityType {
+    STUDENTS("students", List.of("name", "email")),
+    INSTRUCTORS("instructors", List.of("name", "email")),
+    COURSES("courses", List.of("title"));
+
+    private final String path;
+    private final List<String> requiredColumns;
+
+    ImportEntityType(String path, List<String> requiredColumns) {
+        this.path = path;
+        this.requiredColumns = requiredColumns;
+    }
+
+    /**
+     * @return The name used for this type in the import URL, e.g. {@code students}.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return The CSV header columns that must be present for this type.
+     */
+    public List<String> getRequiredColumns() {
+        return requiredColumns;
+    }
+
+    /**
+     * Looks up the type for the given URL segment.
+     *
+     * @param path The URL segment, e.g. {@code students}.
+     * @return The matching type, or empty if there is none.
+     */
+    public static Optional<ImportEntityType> fromPath(String path) {
+        return Arrays.stream(values()).filter(type -> type.path.equalsIgnoreCase(path)).findFirst();
+    }
+}
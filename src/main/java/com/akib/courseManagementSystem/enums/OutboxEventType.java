@@ -0,0 +1,60 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * Kinds of change events written to the transactional outbox, with the type of aggregate they belong to.
+ * Enrollment events belong to the course, so all events of one course are published in order.
+ */
+public enum OutboxEventType {
+    /**
+     * A course was created.
+     */
+    COURSE_CREATED("course"),
+
+    /**
+     * The title, description or dates of a course changed.
+     */
+    COURSE_UPDATED("course"),
+
+    /**
+     * An instructor was assigned to a course.
+     */
+    COURSE_INSTRUCTOR_ASSIGNED("course"),
+
+    /**
+     * A course was soft deleted.
+     */
+    COURSE_DELETED("course"),
+
+    /**
+     * A student was enrolled in a course.
+     */
+    STUDENT_ENROLLED("course"),
+
+    /**
+     * A student was removed from a course.
+     */
+    STUDENT_UNENROLLED("course"),
+
+    /**
+     * A student was soft deleted.
+     */
+    STUDENT_DELETED("student"),
+
+    /**
+     * An instructor was soft deleted.
+     */
+    INSTRUCTOR_DELETED("instructor");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    /**
+     * @return The type of aggregate events of this kind belong to, e.g. {@code course}.
+     */
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
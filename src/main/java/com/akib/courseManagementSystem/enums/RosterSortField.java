@@ -0,0 +1,23 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * Fields the roster of a course can be sorted by.
+ */
+public enum RosterSortField {
+    ID("s.id"),
+    NAME("s.name"),
+    EMAIL("s.email");
+
+    private final String column;
+
+    RosterSortField(String column) {
+        this.column = column;
+    }
+
+    /**
+     * @return The qualified column of the students table the roster is ordered by.
+     */
+    public String getColumn() {
+        return column;
+    }
+}
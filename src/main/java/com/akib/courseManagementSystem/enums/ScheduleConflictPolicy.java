@@ -0,0 +1,19 @@
+package com.akib.courseManagementSystem.enums;
+
+/**
+ * What an enrollment does when the dates of the course overlap a course the student is already enrolled in.
+ */
+public enum ScheduleConflictPolicy {
+    /**
+     * Enroll without checking the schedule.
+     */
+    IGNORE,
+    /**
+     * Enroll and report the overlapping courses in the {@code X-Schedule-Conflicts} response header.
+     */
+    FLAG,
+    /**
+     * Refuse the enrollment with HTTP status 409 (Conflict).
+     */
+    REJECT
+}
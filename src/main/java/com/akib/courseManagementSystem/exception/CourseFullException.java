@@ -0,0 +1,21 @@
+package com.akib.courseManagementSystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a student cannot be enrolled because every seat of the course is taken.
+ * Answered with HTTP status 409 (Conflict).
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CourseFullException extends RuntimeException {
+
+    /**
+     * Creates the exception for a full course.
+     *
+     * @param courseId The ID of the full course.
+     */
+    public CourseFullException(Long courseId) {
+        super("Course is full with ID: " + courseId);
+    }
+}
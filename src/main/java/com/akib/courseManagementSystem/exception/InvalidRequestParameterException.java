@@ -0,0 +1,31 @@
+package com.akib.courseManagementSystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a request parameter, such as a page cursor or a sparse field list, cannot be understood.
+ * Answered with HTTP status 400 (Bad Request).
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestParameterException extends IllegalArgumentException {
+
+    /**
+     * Creates the exception for an invalid parameter.
+     *
+     * @param message The description of the invalid value.
+     */
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates the exception for an invalid parameter that failed to parse.
+     *
+     * @param message The description of the invalid value.
+     * @param cause   The parse failure.
+     */
+    public InvalidRequestParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
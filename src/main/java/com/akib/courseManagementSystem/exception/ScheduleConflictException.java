@@ -0,0 +1,24 @@
+package com.akib.courseManagementSystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+/**
+ * Thrown when a student cannot be enrolled because the course overlaps courses the student already takes.
+ * Answered with HTTP status 409 (Conflict).
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ScheduleConflictException extends RuntimeException {
+
+    /**
+     * Creates the exception for an overlapping enrollment.
+     *
+     * @param courseId    The ID of the course the student was to be enrolled in.
+     * @param conflicting The IDs of the enrolled courses it overlaps.
+     */
+    public ScheduleConflictException(Long courseId, List<Long> conflicting) {
+        super("Schedule conflict for course with ID: " + courseId + ", overlapping courses: " + conflicting);
+    }
+}
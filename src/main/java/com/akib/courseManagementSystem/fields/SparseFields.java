@@ -0,0 +1,97 @@
+package com.akib.courseManagementSystem.fields;
+
+import com.akib.courseManagementSystem.exception.InvalidRequestParameterException;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers for the {@code fields} request parameter, e.g. {@code ?fields=id,title,instructorId}.
+ * <p>
+ * The services turn the requested fields into the columns a query selects, so fields that are not requested
+ * are never read. The DTOs built from such a query leave the other fields null; {@link #filter} then writes
+ * only the requested fields of the DTOs, whose classes carry the {@value #FILTER_ID} filter (see
+ * {@link com.akib.courseManagementSystem.config.SparseFieldsConfig}).
+ */
+public final class SparseFields {
+
+    /**
+     * ID of the Jackson property filter applied to the DTOs.
+     */
+    public static final String FILTER_ID = "sparseFields";
+    /**
+     * The identifier field, always read because pagination and nested lookups depend on it.
+     */
+    public static final String ID_FIELD = "id";
+    /**
+     * Shape of a DTO property name; anything else cannot be a field and is rejected before it reaches a header.
+     */
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parses a comma-separated list of field names.
+     *
+     * @param fields The value of the {@code fields} parameter, or null.
+     * @return The field names in request order, or null if the parameter was absent or blank.
+     * @throws InvalidRequestParameterException if a name cannot be a DTO property.
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Arrays.stream(fields.split(",")).map(String::trim).filter(name -> !name.isEmpty()).forEach(name -> {
+            if (!FIELD_NAME.matcher(name).matches()) {
+                throw new InvalidRequestParameterException("Unknown field: " + name);
+            }
+            names.add(name);
+        });
+        return names;
+    }
+
+    /**
+     * Maps the requested fields to the entity attribute paths to select, adding the ID.
+     *
+     * @param fields    The requested fields.
+     * @param available The selectable fields of the DTO and the entity attribute path of each.
+     * @return The fields to select and their attribute paths.
+     * @throws InvalidRequestParameterException if a requested field is not available.
+     */
+    public static Map<String, String> select(Set<String> fields, Map<String, String> available) {
+        Map<String, String> selected = new LinkedHashMap<>();
+        selected.put(ID_FIELD, available.get(ID_FIELD));
+        for (String field : fields) {
+            String path = available.get(field);
+            if (path == null) {
+                throw new InvalidRequestParameterException("Unknown field: " + field);
+            }
+            selected.put(field, path);
+        }
+        return selected;
+    }
+
+    /**
+     * Wraps a response body so that only the requested fields of its DTOs are written.
+     *
+     * @param body   The response body.
+     * @param fields The requested fields, or null to write every field.
+     * @return The body with the filter to apply.
+     */
+    public static MappingJacksonValue filter(Object body, Set<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, fields == null
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        return value;
+    }
+}
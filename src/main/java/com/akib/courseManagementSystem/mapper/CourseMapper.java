@@ -0,0 +1,104 @@
+package com.akib.courseManagementSystem.mapper;
+
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.projection.CourseSummary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Converts between Course entities, course projections and CourseDTOs.
+ */
+public final class CourseMapper {
+
+    private CourseMapper() {
+    }
+
+    /**
+     * Converts a Course entity to a CourseDTO.
+     *
+     * @param course The Course entity to convert.
+     * @return The corresponding CourseDTO with instructor and student IDs.
+     */
+    public static CourseDTO toDTO(Course course) {
+        CourseDTO dto = new CourseDTO();
+        dto.setId(course.getId());
+        dto.setTitle(course.getTitle());
+        dto.setDescription(course.getDescription());
+        dto.setStartDate(course.getStartDate());
+        dto.setEndDate(course.getEndDate());
+        // Set instructor ID if instructor exists
+        if (course.getInstructor() != null) {
+            dto.setInstructorId(course.getInstructor().getId());
+        }
+        dto.setCapacity(course.getCapacity());
+        dto.setEnrollmentCount(course.getEnrollmentCount());
+        // Set list of student IDs
+        dto.setStudentIds(course.getStudents().stream()
+                .map(Student::getId)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    /**
+     * Converts a course summary projection and its student IDs to a CourseDTO.
+     *
+     * @param summary    The course summary to convert.
+     * @param studentIds The IDs of the students enrolled in the course.
+     * @return The corresponding CourseDTO.
+     */
+    public static CourseDTO toDTO(CourseSummary summary, List<Long> studentIds) {
+        CourseDTO dto = new CourseDTO();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setStartDate(summary.getStartDate());
+        dto.setEndDate(summary.getEndDate());
+        dto.setInstructorId(summary.getInstructorId());
+        dto.setCapacity(summary.getCapacity());
+        dto.setEnrollmentCount(summary.getEnrollmentCount());
+        dto.setStudentIds(studentIds);
+        return dto;
+    }
+
+    /**
+     * Builds the payload of a course change event.
+     * The roster is left out; enrollment changes are published as events of their own.
+     *
+     * @param course The changed course.
+     * @return The event payload.
+     */
+    public static Map<String, Object> toEventPayload(CourseDTO course) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", course.getId());
+        payload.put("title", course.getTitle());
+        payload.put("description", course.getDescription());
+        payload.put("startDate", course.getStartDate());
+        payload.put("endDate", course.getEndDate());
+        payload.put("instructorId", course.getInstructorId());
+        payload.put("capacity", course.getCapacity());
+        return payload;
+    }
+
+    /**
+     * Converts a CourseDTO to a Course entity.
+     * The instructor and students are not resolved; callers attach them separately.
+     *
+     * @param courseDTO The CourseDTO to convert.
+     * @return The corresponding Course entity.
+     */
+    public static Course toEntity(CourseDTO courseDTO) {
+        Course course = new Course();
+        course.setId(courseDTO.getId());
+        course.setTitle(courseDTO.getTitle());
+        course.setDescription(courseDTO.getDescription());
+        course.setStartDate(courseDTO.getStartDate());
+        course.setEndDate(courseDTO.getEndDate());
+        course.setCapacity(courseDTO.getCapacity());
+        return course;
+    }
+}
@@ -0,0 +1,41 @@
+package com.akib.courseManagementSystem.mapper;
+
+import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.entity.Instructor;
+
+/**
+ * Converts between Instructor entities and InstructorDTOs.
+ */
+public final class InstructorMapper {
+
+    private InstructorMapper() {
+    }
+
+    /**
+     * Converts an Instructor entity to a DTO.
+     *
+     * @param instructor the Instructor entity to convert.
+     * @return the corresponding InstructorDTO.
+     */
+    public static InstructorDTO toDTO(Instructor instructor) {
+        InstructorDTO dto = new InstructorDTO();
+        dto.setId(instructor.getId());
+        dto.setName(instructor.getName());
+        dto.setEmail(instructor.getEmail());
+        return dto;
+    }
+
+    /**
+     * Converts an InstructorDTO to an Instructor entity.
+     * The ID is left unset, so the entity is always persisted as a new row.
+     *
+     * @param instructorDTO the InstructorDTO to convert.
+     * @return the corresponding Instructor entity.
+     */
+    public static Instructor toEntity(InstructorDTO instructorDTO) {
+        Instructor instructor = new Instructor();
+        instructor.setName(instructorDTO.getName());
+        instructor.setEmail(instructorDTO.getEmail());
+        return instructor;
+    }
+}
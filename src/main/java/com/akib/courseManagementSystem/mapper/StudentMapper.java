@@ -0,0 +1,41 @@
+package com.akib.courseManagementSystem.mapper;
+
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.entity.Student;
+
+/**
+ * Converts between Student entities and StudentDTOs.
+ */
+public final class StudentMapper {
+
+    private StudentMapper() {
+    }
+
+    /**
+     * Converts a Student entity to a StudentDTO.
+     *
+     * @param student the Student entity
+     * @return the corresponding StudentDTO
+     */
+    public static StudentDTO toDTO(Student student) {
+        StudentDTO dto = new StudentDTO();
+        dto.setId(student.getId());
+        dto.setName(student.getName());
+        dto.setEmail(student.getEmail());
+        return dto;
+    }
+
+    /**
+     * Converts a StudentDTO to a Student entity.
+     * The ID is left unset, so the entity is always persisted as a new row.
+     *
+     * @param studentDTO the StudentDTO
+     * @return the corresponding Student entity
+     */
+    public static Student toEntity(StudentDTO studentDTO) {
+        Student student = new Student();
+        student.setName(studentDTO.getName());
+        student.setEmail(studentDTO.getEmail());
+        return student;
+    }
+}
@@ -0,0 +1,68 @@
+package com.akib.courseManagementSystem.outbox;
+
+import com.akib.courseManagementSystem.dto.OutboxEventDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink that appends every event as one JSON line to a local file, e.g. for a log shipper to pick up.
+ * Each batch is forced to disk before it is reported as published.
+ * Active when {@code cms.outbox.sink=file}; the file is set with {@code cms.outbox.file.path}.
+ */
+@Component
+@ConditionalOnProperty(name = "cms.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param path         the file the events are appended to; parent directories are created.
+     * @param objectMapper the mapper used to write the events as JSON.
+     */
+    public FileOutboxSink(@Value("${cms.outbox.file.path:outbox/events.ndjson}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(List<OutboxEventDTO> events) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (OutboxEventDTO event : events) {
+                objectMapper.writeValue(lines, event);
+                lines.write('\n');
+            }
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox events to " + path, e);
+        }
+    }
+}
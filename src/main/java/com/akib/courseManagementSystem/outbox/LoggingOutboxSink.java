@@ -0,0 +1,31 @@
+package com.akib.courseManagementSystem.outbox;
+
+import com.akib.courseManagementSystem.dto.OutboxEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink that writes every event to the application log.
+ * Active when {@code cms.outbox.sink} is {@code log} or not set.
+ */
+@Component
+@ConditionalOnProperty(name = "cms.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(List<OutboxEventDTO> events) {
+        for (OutboxEventDTO event : events) {
+            logger.info("Outbox event {} {} {} {}: {}", event.getId(), event.getEventType(),
+                    event.getAggregateType(), event.getAggregateId(), event.getPayload());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.akib.courseManagementSystem.outbox;
+
+import com.akib.courseManagementSystem.dto.OutboxEventDTO;
+
+import java.util.List;
+
+/**
+ * Destination the outbox relay publishes events to.
+ * Every {@code OutboxSink} bean receives every event. A batch is marked as published only after all
+ * sinks returned normally; if a sink throws, the whole batch is retried later, so sinks must tolerate
+ * receiving an event more than once.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param events The events, in ascending ID order.
+     */
+    void publish(List<OutboxEventDTO> events);
+}
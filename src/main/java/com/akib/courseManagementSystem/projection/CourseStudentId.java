@@ -0,0 +1,16 @@
+package com.akib.courseManagementSystem.projection;
+
+/**
+ * Read-only projection of a single row of the course_student join table.
+ */
+public interface CourseStudentId {
+    /**
+     * @return The identifier of the course.
+     */
+    Long getCourseId();
+
+    /**
+     * @return The identifier of the student enrolled in the course.
+     */
+    Long getStudentId();
+}
@@ -0,0 +1,50 @@
+package com.akib.courseManagementSystem.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of the scalar columns of a course.
+ * Selected straight from the courses table, so neither the instructor nor the enrolled
+ * students are loaded as entities when a course listing is built.
+ */
+public interface CourseSummary {
+    /**
+     * @return The unique identifier of the course.
+     */
+    Long getId();
+
+    /**
+     * @return The title of the course.
+     */
+    String getTitle();
+
+    /**
+     * @return The description of the course.
+     */
+    String getDescription();
+
+    /**
+     * @return The start date of the course.
+     */
+    LocalDate getStartDate();
+
+    /**
+     * @return The end date of the course.
+     */
+    LocalDate getEndDate();
+
+    /**
+     * @return The identifier of the assigned instructor, read from the foreign key column.
+     */
+    Long getInstructorId();
+
+    /**
+     * @return The maximum number of students, or null for no limit.
+     */
+    Integer getCapacity();
+
+    /**
+     * @return The number of enrolled students, read from the denormalized counter column.
+     */
+    Integer getEnrollmentCount();
+}
@@ -0,0 +1,21 @@
+package com.akib.courseManagementSystem.projection;
+
+/**
+ * Read-only projection of the name and email of a student or instructor.
+ */
+public interface PersonContact {
+    /**
+     * @return The identifier of the student or instructor.
+     */
+    Long getId();
+
+    /**
+     * @return The name of the student or instructor.
+     */
+    String getName();
+
+    /**
+     * @return The email address of the student or instructor.
+     */
+    String getEmail();
+}
@@ -0,0 +1,168 @@
+package com.akib.courseManagementSystem.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository that moves soft-deleted rows from the live tables into the {@code cms.*_archive} tables.
+ * Every move is a single {@code DELETE ... RETURNING} feeding an {@code INSERT}, so a row is never
+ * in both tables or in neither. Callers lock a batch of IDs first and move it in the same transaction.
+ */
+@Repository
+public class ArchivalRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for dependency injection of the JdbcTemplate.
+     *
+     * @param jdbcTemplate The template used to run the SQL statements.
+     */
+    public ArchivalRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Locks the next batch of courses that were soft deleted before the cutoff, in ID order.
+     * Rows locked by a concurrent archival run are skipped.
+     *
+     * @param cutoff  Only courses deleted before this time are returned.
+     * @param afterId Only IDs greater than this are returned.
+     * @param limit   The maximum number of IDs to return.
+     * @return The locked course IDs, ascending.
+     */
+    public List<Long> lockArchivableCourseIds(LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM cms.courses WHERE deleted_at < ? AND id > ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, Timestamp.valueOf(cutoff), afterId, limit);
+    }
+
+    /**
+     * Locks the next batch of students that were soft deleted before the cutoff, in ID order.
+     *
+     * @param cutoff  Only students deleted before this time are returned.
+     * @param afterId Only IDs greater than this are returned.
+     * @param limit   The maximum number of IDs to return.
+     * @return The locked student IDs, ascending.
+     */
+    public List<Long> lockArchivableStudentIds(LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM cms.students WHERE deleted_at < ? AND id > ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, Timestamp.valueOf(cutoff), afterId, limit);
+    }
+
+    /**
+     * Locks the next batch of instructors that were soft deleted before the cutoff, in ID order.
+     * Instructors still referenced by a course, live or soft-deleted, are left in place.
+     *
+     * @param cutoff  Only instructors deleted before this time are returned.
+     * @param afterId Only IDs greater than this are returned.
+     * @param limit   The maximum number of IDs to return.
+     * @return The locked instructor IDs, ascending.
+     */
+    public List<Long> lockArchivableInstructorIds(LocalDateTime cutoff, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT i.id FROM cms.instructor i WHERE i.deleted_at < ? AND i.id > ? " +
+                        "AND NOT EXISTS (SELECT 1 FROM cms.courses c WHERE c.instructor_id = i.id) " +
+                        "ORDER BY i.id LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, Timestamp.valueOf(cutoff), afterId, limit);
+    }
+
+    /**
+     * Moves the course_student rows of the given courses into the archive.
+     *
+     * @param courseIds The IDs of the courses.
+     * @return The number of moved rows.
+     */
+    public int archiveEnrollmentsOfCourses(Collection<Long> courseIds) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM cms.course_student WHERE course_id = ANY(?) RETURNING course_id, student_id) " +
+                        "INSERT INTO cms.course_student_archive (course_id, student_id) " +
+                        "SELECT course_id, student_id FROM moved ON CONFLICT DO NOTHING",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), courseIds)));
+    }
+
+    /**
+     * Moves the course_student rows of the given students into the archive, and lowers the enrollment
+     * count and increments the version of every course whose roster shrank, in the same statement.
+     *
+     * @param studentIds The IDs of the students.
+     * @return The number of moved rows per course whose roster shrank.
+     */
+    public Map<Long, Integer> archiveEnrollmentsOfStudents(Collection<Long> studentIds) {
+        Map<Long, Integer> movedPerCourse = new HashMap<>();
+        jdbcTemplate.query(
+                "WITH moved AS (DELETE FROM cms.course_student WHERE student_id = ANY(?) RETURNING course_id, student_id), " +
+                        "archived AS (INSERT INTO cms.course_student_archive (course_id, student_id) " +
+                        "SELECT course_id, student_id FROM moved ON CONFLICT DO NOTHING), " +
+                        "shrunk AS (SELECT course_id, COUNT(*) AS moved_rows FROM moved GROUP BY course_id), " +
+                        "counted AS (UPDATE cms.courses c SET enrollment_count = c.enrollment_count - s.moved_rows, " +
+                        "version = c.version + 1 FROM shrunk s WHERE c.id = s.course_id) " +
+                        "SELECT course_id, moved_rows FROM shrunk",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), studentIds)),
+                rs -> {
+                    movedPerCourse.put(rs.getLong(1), rs.getInt(2));
+                });
+        return movedPerCourse;
+    }
+
+    /**
+     * Moves the given courses into the archive. Their course_student rows must have been moved before.
+     *
+     * @param courseIds The IDs of the courses.
+     * @return The number of moved rows.
+     */
+    public int archiveCourses(Collection<Long> courseIds) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM cms.courses WHERE id = ANY(?) " +
+                        "RETURNING id, title, description, start_date, end_date, instructor_id, capacity, enrollment_count, " +
+                        "deleted_at, version) " +
+                        "INSERT INTO cms.courses_archive (id, title, description, start_date, end_date, instructor_id, " +
+                        "capacity, enrollment_count, deleted_at, version) " +
+                        "SELECT id, title, description, start_date, end_date, instructor_id, capacity, enrollment_count, " +
+                        "deleted_at, version FROM moved",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), courseIds)));
+    }
+
+    /**
+     * Moves the given students into the archive. Their course_student rows must have been moved before.
+     *
+     * @param studentIds The IDs of the students.
+     * @return The number of moved rows.
+     */
+    public int archiveStudents(Collection<Long> studentIds) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM cms.students WHERE id = ANY(?) RETURNING id, name, email, deleted_at, version) " +
+                        "INSERT INTO cms.students_archive (id, name, email, deleted_at, version) " +
+                        "SELECT id, name, email, deleted_at, version FROM moved",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), studentIds)));
+    }
+
+    /**
+     * Moves the given instructors into the archive.
+     *
+     * @param instructorIds The IDs of the instructors, none of which may be referenced by a course.
+     * @return The number of moved rows.
+     */
+    public int archiveInstructors(Collection<Long> instructorIds) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM cms.instructor WHERE id = ANY(?) RETURNING id, name, email, deleted_at, version) " +
+                        "INSERT INTO cms.instructor_archive (id, name, email, deleted_at, version) " +
+                        "SELECT id, name, email, deleted_at, version FROM moved",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), instructorIds)));
+    }
+
+    private static Array toArray(Connection connection, Collection<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
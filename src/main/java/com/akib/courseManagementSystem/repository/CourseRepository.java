@@ -1,12 +1,23 @@
 package com.akib.courseManagementSystem.repository;
 
 import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.projection.CourseStudentId;
+import com.akib.courseManagementSystem.projection.CourseSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD operations on Course entities.
@@ -25,11 +36,32 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.deletedAt IS NULL")
     List<Course> findAll();
 
+    /**
+     * Streams the summaries of every course that is not soft-deleted, ordered by ID.
+     * Rows are read through a server-side cursor in chunks of the JDBC fetch size instead of being
+     * materialized up front, so the caller must consume the stream inside a read-only transaction
+     * and close it afterwards. Only scalar columns are selected, so no entity enters the persistence
+     * context or the second-level cache.
+     *
+     * @return A stream over the summaries of all live courses.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.deletedAt IS NULL ORDER BY c.id")
+    Stream<CourseSummary> streamAllSummaries();
+
     /** Updated findById to exclude soft-deleted courses
+     * The query result is cached, so repeated lookups are served from the second-level cache.
      *
      * @param id
      * @return
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Course c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<Course> findById(Long id);
 
@@ -41,4 +73,177 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.instructor.id = :instructorId AND c.deletedAt IS NULL")
 
     List<Course> findByInstructorId(Long instructorId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the next keyset page of course summaries that are not soft-deleted, ordered by ID.
+     * Reads only the courses table; the instructor ID comes from the foreign key column.
+     *
+     * @param after    The ID of the last course of the previous page, or 0 for the first page.
+     * @param pageable The page size to fetch.
+     * @return The course summaries with an ID greater than {@code after}.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.id > :after AND c.deletedAt IS NULL ORDER BY c.id")
+    List<CourseSummary> findSummaryPageAfter(Long after, Pageable pageable);
+
+    /**
+     * Retrieves summaries of the courses taught by a specific instructor, excluding soft-deleted courses.
+     *
+     * @param instructorId The ID of the instructor.
+     * @return The course summaries ordered by ID.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.instructor.id = :instructorId AND c.deletedAt IS NULL ORDER BY c.id")
+    List<CourseSummary> findSummariesByInstructorId(Long instructorId);
+
+    /**
+     * Retrieves summaries of the live courses of an instructor that have at least the given number of
+     * enrolled students. Filters and sorts on the denormalized enrollment count, so the join table is not read.
+     *
+     * @param instructorId  The ID of the instructor.
+     * @param minEnrollment The minimum number of enrolled students.
+     * @param sort          The order of the summaries, on Course properties.
+     * @return The matching course summaries.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.instructor.id = :instructorId AND c.enrollmentCount >= :minEnrollment " +
+            "AND c.deletedAt IS NULL")
+    List<CourseSummary> findSummariesByInstructorId(Long instructorId, int minEnrollment, Sort sort);
+
+    /**
+     * Retrieves the enrolled student IDs of several courses in one query over the join table.
+     *
+     * @param courseIds The IDs of the courses.
+     * @return One row per enrollment, ordered by course and student ID.
+     */
+    @Query(value = "SELECT cs.course_id AS courseId, cs.student_id AS studentId FROM cms.course_student cs " +
+            "WHERE cs.course_id IN (:courseIds) ORDER BY cs.course_id, cs.student_id", nativeQuery = true)
+    List<CourseStudentId> findStudentIdsByCourseIds(Collection<Long> courseIds);
+
+    /**
+     * Retrieves the summary of a single course that is not soft-deleted.
+     *
+     * @param id The ID of the course.
+     * @return An Optional containing the course summary, or empty if not found.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<CourseSummary> findSummaryById(Long id);
+
+    /**
+     * Retrieves the summaries of several courses that are not soft-deleted, in no particular order.
+     *
+     * @param ids The IDs of the courses.
+     * @return The course summaries of the live courses among the IDs.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    List<CourseSummary> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * Retrieves the next keyset page of IDs of the live courses that run on at least one day between two
+     * dates, both inclusive, ordered by start date and ID. The overlap is served by the GiST index over the
+     * date ranges of the courses (V19); courses missing a date or with their dates out of order have a NULL
+     * range there and are left out, without ever building an invalid range.
+     * <p>
+     * A GiST index returns rows in no particular order, so every page sorts all courses that overlap the
+     * window and follow the cursor before the limit applies. That cost grows with the number of courses
+     * running at the same time in the window, not with the size of the catalog.
+     *
+     * @param from      The first day of the window.
+     * @param to        The last day of the window.
+     * @param afterDate The start date of the last course of the previous page.
+     * @param afterId   The ID of the last course of the previous page, or 0 for the first page.
+     * @param limit     The maximum number of IDs to return.
+     * @return The IDs of the matching courses after the given one.
+     */
+    @Query(value = "SELECT c.id FROM cms.courses c " +
+            "WHERE (CASE WHEN c.start_date <= c.end_date THEN daterange(c.start_date, c.end_date, '[]') END) " +
+            "&& daterange(:from, :to, '[]') AND c.deleted_at IS NULL " +
+            "AND (c.start_date, c.id) > (:afterDate, :afterId) " +
+            "ORDER BY c.start_date, c.id LIMIT :limit", nativeQuery = true)
+    List<Long> findActiveIdsAfter(LocalDate from, LocalDate to, LocalDate afterDate, Long afterId, int limit);
+
+    /**
+     * Retrieves the next keyset page of summaries of the live courses starting between two dates, both
+     * inclusive, ordered by start date and ID. Served by the index on (start_date, id).
+     *
+     * @param to        The last day of the window.
+     * @param afterDate The start date of the last course of the previous page, or the first day of the window.
+     * @param afterId   The ID of the last course of the previous page, or 0 for the first page.
+     * @param pageable  The page size to fetch.
+     * @return The course summaries after the given course.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.startDate >= :afterDate AND c.startDate <= :to " +
+            "AND (c.startDate > :afterDate OR c.id > :afterId) AND c.deletedAt IS NULL " +
+            "ORDER BY c.startDate, c.id")
+    List<CourseSummary> findSummariesStartingAfter(LocalDate to, LocalDate afterDate, Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the next keyset page of summaries of the live courses ending between two dates, both
+     * inclusive, ordered by end date and ID. Served by the index on (end_date, id).
+     *
+     * @param to        The last day of the window.
+     * @param afterDate The end date of the last course of the previous page, or the first day of the window.
+     * @param afterId   The ID of the last course of the previous page, or 0 for the first page.
+     * @param pageable  The page size to fetch.
+     * @return The course summaries after the given course.
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.startDate AS startDate, " +
+            "c.endDate AS endDate, c.instructor.id AS instructorId, c.capacity AS capacity, " +
+            "c.enrollmentCount AS enrollmentCount " +
+            "FROM Course c WHERE c.endDate >= :afterDate AND c.endDate <= :to " +
+            "AND (c.endDate > :afterDate OR c.id > :afterId) AND c.deletedAt IS NULL " +
+            "ORDER BY c.endDate, c.id")
+    List<CourseSummary> findSummariesEndingAfter(LocalDate to, LocalDate afterDate, Long afterId, Pageable pageable);
+
+    /**
+     * Full-text searches the title and description of the live courses and returns one page of matching
+     * course IDs, best match first. The query uses web search syntax: words are combined with AND,
+     * {@code "quoted phrases"} must appear in order, {@code or} separates alternatives and {@code -word}
+     * excludes a word. Matches in the title rank above matches in the description; equal ranks are
+     * ordered by ID.
+     *
+     * @param query    The search text.
+     * @param pageable The page to fetch, without sort.
+     * @return The page of matching course IDs and the total number of matches.
+     */
+    @Query(value = "SELECT c.id FROM cms.courses c, websearch_to_tsquery('english', :query) q " +
+            "WHERE c.search_vector @@ q AND c.deleted_at IS NULL " +
+            "ORDER BY ts_rank(c.search_vector, q) DESC, c.id",
+            countQuery = "SELECT COUNT(*) FROM cms.courses c " +
+                    "WHERE c.search_vector @@ websearch_to_tsquery('english', :query) AND c.deleted_at IS NULL",
+            nativeQuery = true)
+    Page<Long> searchIds(String query, Pageable pageable);
+
+    /**
+     * Checks whether a course exists and is not soft-deleted, without loading it.
+     *
+     * @param id The ID of the course.
+     * @return true if the course exists and is live.
+     */
+    @Query("SELECT COUNT(c) > 0 FROM Course c WHERE c.id = :id AND c.deletedAt IS NULL")
+    boolean existsActiveById(Long id);
+
+    /**
+     * Reads only the row version of a course that is not soft-deleted.
+     *
+     * @param id The ID of the course.
+     * @return An Optional containing the version, or empty if the course is not found.
+     */
+    @Query("SELECT c.version FROM Course c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Long> findVersionById(Long id);
+}
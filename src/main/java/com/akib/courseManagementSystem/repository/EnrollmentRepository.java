@@ -0,0 +1,344 @@
+package com.akib.courseManagementSystem.repository;
+
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import com.akib.courseManagementSystem.enums.RosterSortField;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Repository for set-based reads and writes on the course_student join table.
+ * Works directly on JDBC so that enrollments can be validated and written in bulk
+ * without loading Course rosters as entities.
+ * Every write adjusts the enrollment count and the row version of the affected courses in the same
+ * statement, so the count can never drift from the join table and the course ETag changes with the roster.
+ */
+@Repository
+public class EnrollmentRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for dependency injection of the JdbcTemplate.
+     *
+     * @param jdbcTemplate The template used to run the SQL statements.
+     */
+    public EnrollmentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns which of the given course IDs belong to courses that are not soft-deleted.
+     *
+     * @param courseIds The course IDs to check.
+     * @return The subset of IDs that exist and are live.
+     */
+    public Set<Long> findActiveCourseIds(Collection<Long> courseIds) {
+        return findActiveIds("SELECT id FROM cms.courses WHERE id = ANY(?) AND deleted_at IS NULL", courseIds);
+    }
+
+    /**
+     * Returns which of the given student IDs belong to students that are not soft-deleted.
+     *
+     * @param studentIds The student IDs to check.
+     * @return The subset of IDs that exist and are live.
+     */
+    public Set<Long> findActiveStudentIds(Collection<Long> studentIds) {
+        return findActiveIds("SELECT id FROM cms.students WHERE id = ANY(?) AND deleted_at IS NULL", studentIds);
+    }
+
+    /**
+     * Returns which of the given pairs are already present in the join table.
+     *
+     * @param pairs The (course, student) pairs to look up.
+     * @return The pairs that are already enrolled.
+     */
+    public Set<EnrollmentRequestDTO> findExisting(Collection<EnrollmentRequestDTO> pairs) {
+        Set<EnrollmentRequestDTO> existing = new HashSet<>();
+        if (pairs.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(
+                "SELECT cs.course_id, cs.student_id FROM cms.course_student cs " +
+                        "JOIN unnest(?::bigint[], ?::bigint[]) AS p(course_id, student_id) " +
+                        "ON cs.course_id = p.course_id AND cs.student_id = p.student_id",
+                ps -> {
+                    Connection connection = ps.getConnection();
+                    ps.setArray(1, toArray(connection, pairs.stream().map(EnrollmentRequestDTO::getCourseId).toList()));
+                    ps.setArray(2, toArray(connection, pairs.stream().map(EnrollmentRequestDTO::getStudentId).toList()));
+                },
+                rs -> {
+                    existing.add(new EnrollmentRequestDTO(rs.getLong(1), rs.getLong(2)));
+                });
+        return existing;
+    }
+
+    /**
+     * Enrolls a student in a course if a seat is left, without reading the course roster.
+     * A single statement locks the course row if a seat is left, which PostgreSQL re-evaluates on the
+     * latest row version when enrollments race, inserts the enrollment, and increments the enrollment
+     * count and the version only if a row was inserted. A student who is already enrolled therefore
+     * leaves the course row unchanged. The course row stays locked until the caller's transaction ends,
+     * so the transaction should be kept short.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student.
+     * @return ENROLLED if a row was inserted, ALREADY_ENROLLED if the student was already enrolled,
+     * or COURSE_FULL if no seat was left.
+     */
+    public EnrollmentStatus enroll(Long courseId, Long studentId) {
+        EnrollmentStatus status = jdbcTemplate.queryForObject(
+                "WITH seat AS (SELECT id FROM cms.courses " +
+                        "WHERE id = ? AND (capacity IS NULL OR enrollment_count < capacity) FOR NO KEY UPDATE), " +
+                        "inserted AS (INSERT INTO cms.course_student (course_id, student_id) SELECT id, ? FROM seat " +
+                        "ON CONFLICT DO NOTHING RETURNING course_id), " +
+                        "claimed AS (UPDATE cms.courses SET enrollment_count = enrollment_count + 1, version = version + 1 " +
+                        "WHERE id IN (SELECT course_id FROM inserted) RETURNING id) " +
+                        "SELECT EXISTS (SELECT 1 FROM seat), EXISTS (SELECT 1 FROM claimed)",
+                (rs, rowNum) -> rs.getBoolean(2) ? EnrollmentStatus.ENROLLED
+                        : rs.getBoolean(1) ? EnrollmentStatus.ALREADY_ENROLLED : EnrollmentStatus.COURSE_FULL,
+                courseId, studentId);
+        if (status == EnrollmentStatus.COURSE_FULL && isEnrolled(courseId, studentId)) {
+            // A student retrying an enrollment in a course that has since filled up keeps the seat
+            status = EnrollmentStatus.ALREADY_ENROLLED;
+        }
+        return status;
+    }
+
+    /**
+     * Checks whether a student is enrolled in a course.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student.
+     * @return true if the enrollment exists.
+     */
+    public boolean isEnrolled(Long courseId, Long studentId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM cms.course_student WHERE course_id = ? AND student_id = ?)",
+                Boolean.class, courseId, studentId));
+    }
+
+    /**
+     * Locks the given live courses for the rest of the transaction and returns their free seats.
+     * The rows are locked in ID order, so concurrent bulk enrollments over overlapping courses
+     * wait for each other instead of deadlocking.
+     *
+     * @param courseIds The IDs of the courses.
+     * @return The number of free seats per live course; courses without a capacity have
+     * {@link Integer#MAX_VALUE} seats. Missing or soft-deleted courses are left out.
+     */
+    public Map<Long, Integer> lockFreeSeats(Collection<Long> courseIds) {
+        Map<Long, Integer> freeSeats = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return freeSeats;
+        }
+        jdbcTemplate.query(
+                "SELECT id, GREATEST(capacity - enrollment_count, 0) FROM cms.courses " +
+                        "WHERE id = ANY(?) AND deleted_at IS NULL ORDER BY id FOR UPDATE",
+                ps -> ps.setArray(1, toArray(ps.getConnection(), courseIds)),
+                rs -> {
+                    int seats = rs.getInt(2);
+                    freeSeats.put(rs.getLong(1), rs.wasNull() ? Integer.MAX_VALUE : seats);
+                });
+        return freeSeats;
+    }
+
+    /**
+     * Removes a student from a course with a single statement, without reading the course roster.
+     * The enrollment count and version of the course are only changed if a row was deleted.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student.
+     * @return true if a row was deleted, false if the student was not enrolled.
+     */
+    public boolean delete(Long courseId, Long studentId) {
+        return jdbcTemplate.update(
+                "WITH deleted AS (DELETE FROM cms.course_student WHERE course_id = ? AND student_id = ? " +
+                        "RETURNING course_id) " +
+                        "UPDATE cms.courses SET enrollment_count = enrollment_count - 1, version = version + 1 " +
+                        "WHERE id IN (SELECT course_id FROM deleted)",
+                courseId, studentId) == 1;
+    }
+
+    /**
+     * Increments the version of every course a student is enrolled in, so that the roster ETags of those
+     * courses, which are derived from the course version alone, change when the student does.
+     *
+     * @param studentId The ID of the changed student.
+     * @return The IDs of the courses whose version was incremented.
+     */
+    public List<Long> touchCoursesOfStudent(Long studentId) {
+        return jdbcTemplate.queryForList(
+                "UPDATE cms.courses SET version = version + 1 " +
+                        "WHERE id IN (SELECT course_id FROM cms.course_student WHERE student_id = ?) RETURNING id",
+                Long.class, studentId);
+    }
+
+    /**
+     * Reads one keyset page of the roster of a course straight from the join table and the students table,
+     * selecting only the ID, name and email of the students that are not soft-deleted. Rows are ordered by the
+     * sort column and then by ID, so the page after a row is the rows with a greater (or, descending, smaller)
+     * (column, ID) pair. Ordered by ID, the page is read in order from the join table's primary key.
+     *
+     * @param courseId   The ID of the course.
+     * @param sortBy     The column to order by.
+     * @param direction  The sort direction.
+     * @param afterId    The ID of the last student of the previous page, or null for the first page.
+     * @param afterValue The sort column value of the last student of the previous page; ignored when ordered by ID.
+     * @param limit      The maximum number of rows to return.
+     * @return The students of the page, in order.
+     */
+    public List<StudentDTO> findRosterPage(Long courseId, RosterSortField sortBy, Sort.Direction direction,
+                                           Long afterId, String afterValue, int limit) {
+        String comparison = direction.isAscending() ? " > " : " < ";
+        String order = direction.isAscending() ? " ASC" : " DESC";
+        StringBuilder sql = new StringBuilder("SELECT s.id, s.name, s.email FROM cms.course_student cs " +
+                "JOIN cms.students s ON s.id = cs.student_id WHERE cs.course_id = ? AND s.deleted_at IS NULL");
+        List<Object> args = new ArrayList<>();
+        args.add(courseId);
+        if (afterId != null) {
+            if (sortBy == RosterSortField.ID) {
+                sql.append(" AND s.id").append(comparison).append('?');
+            } else {
+                sql.append(" AND (").append(sortBy.getColumn()).append(", s.id)").append(comparison).append("(?, ?)");
+                args.add(afterValue);
+            }
+            args.add(afterId);
+        }
+        if (sortBy != RosterSortField.ID) {
+            sql.append(" ORDER BY ").append(sortBy.getColumn()).append(order).append(", s.id").append(order);
+        } else {
+            sql.append(" ORDER BY s.id").append(order);
+        }
+        sql.append(" LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            StudentDTO student = new StudentDTO();
+            student.setId(rs.getLong(1));
+            student.setName(rs.getString(2));
+            student.setEmail(rs.getString(3));
+            return student;
+        }, args.toArray());
+    }
+
+    /**
+     * Reads the live courses a student is enrolled in, with their dates, in a single query over the
+     * join table's student index.
+     *
+     * @param studentId The ID of the student.
+     * @return The courses of the student, without conflicts filled in, ordered by start date.
+     */
+    public List<ScheduleEntryDTO> findSchedule(Long studentId) {
+        return jdbcTemplate.query(
+                "SELECT c.id, c.title, c.start_date, c.end_date FROM cms.course_student cs " +
+                        "JOIN cms.courses c ON c.id = cs.course_id WHERE cs.student_id = ? AND c.deleted_at IS NULL " +
+                        "ORDER BY c.start_date NULLS LAST, c.id",
+                (rs, rowNum) -> new ScheduleEntryDTO(rs.getLong(1), rs.getString(2),
+                        rs.getObject(3, LocalDate.class), rs.getObject(4, LocalDate.class), new ArrayList<>()),
+                studentId);
+    }
+
+    /**
+     * Finds the live courses of a student whose dates overlap the dates of another live course, both dates
+     * inclusive, in a single query. Only the student's courses are read, through the join table's student
+     * index; courses without a start or end date never overlap.
+     *
+     * @param studentId The ID of the student.
+     * @param courseId  The ID of the course to check.
+     * @return The IDs of the overlapping courses, ordered by start date, without the checked course itself;
+     * empty if the checked course is not found.
+     */
+    public List<Long> findOverlappingCourseIds(Long studentId, Long courseId) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.id FROM cms.courses target " +
+                        "JOIN cms.course_student cs ON cs.student_id = ? " +
+                        "JOIN cms.courses c ON c.id = cs.course_id " +
+                        "WHERE target.id = ? AND target.deleted_at IS NULL AND c.deleted_at IS NULL " +
+                        "AND c.id <> target.id AND c.start_date <= target.end_date AND c.end_date >= target.start_date " +
+                        "ORDER BY c.start_date, c.id",
+                Long.class, studentId, courseId);
+    }
+
+    /**
+     * Locks the row of a live student until the end of the transaction, so that schedule checks of
+     * concurrent enrollments of the same student run one after the other. The lock does not block
+     * enrollments that skip the check, nor the foreign key checks of the join table.
+     *
+     * @param studentId The ID of the student.
+     * @return true if the student exists and is live.
+     */
+    public boolean lockStudent(Long studentId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT id FROM cms.students WHERE id = ? AND deleted_at IS NULL FOR NO KEY UPDATE",
+                Long.class, studentId).isEmpty();
+    }
+
+    /**
+     * Inserts the given pairs into the join table with a single statement that takes the pairs as two
+     * array parameters, and adds the number of inserted rows to the enrollment count of each course.
+     * Pairs that are already present, including pairs inserted concurrently by another transaction,
+     * are skipped by the database and not counted.
+     *
+     * @param pairs The (course, student) pairs to insert.
+     * @return The pairs that were actually inserted.
+     */
+    public List<EnrollmentRequestDTO> batchInsert(Collection<EnrollmentRequestDTO> pairs) {
+        List<EnrollmentRequestDTO> inserted = new ArrayList<>();
+        if (pairs.isEmpty()) {
+            return inserted;
+        }
+        jdbcTemplate.query(
+                "WITH inserted AS (INSERT INTO cms.course_student (course_id, student_id) " +
+                        "SELECT course_id, student_id FROM unnest(?::bigint[], ?::bigint[]) AS p(course_id, student_id) " +
+                        "ON CONFLICT DO NOTHING RETURNING course_id, student_id), " +
+                        "counted AS (UPDATE cms.courses c SET enrollment_count = c.enrollment_count + i.enrolled, " +
+                        "version = c.version + 1 " +
+                        "FROM (SELECT course_id, COUNT(*) AS enrolled FROM inserted GROUP BY course_id) i " +
+                        "WHERE c.id = i.course_id) " +
+                        "SELECT course_id, student_id FROM inserted",
+                ps -> {
+                    Connection connection = ps.getConnection();
+                    ps.setArray(1, toArray(connection, pairs.stream().map(EnrollmentRequestDTO::getCourseId).toList()));
+                    ps.setArray(2, toArray(connection, pairs.stream().map(EnrollmentRequestDTO::getStudentId).toList()));
+                },
+                rs -> {
+                    inserted.add(new EnrollmentRequestDTO(rs.getLong(1), rs.getLong(2)));
+                });
+        return inserted;
+    }
+
+    /**
+     * Runs an ID lookup that takes all IDs as a single array parameter, so the number
+     * of IDs is not limited by the number of bind parameters a statement may have.
+     */
+    private Set<Long> findActiveIds(String sql, Collection<Long> ids) {
+        Set<Long> active = new HashSet<>();
+        if (ids.isEmpty()) {
+            return active;
+        }
+        jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, toArray(ps.getConnection(), ids)),
+                rs -> {
+                    active.add(rs.getLong(1));
+                });
+        return active;
+    }
+
+    private static Array toArray(Connection connection, Collection<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
@@ -1,14 +1,19 @@
 package com.akib.courseManagementSystem.repository;
 
 import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.projection.PersonContact;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 //import org.hibernate.query.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 //import java.awt.print.Pageable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,22 @@ public interface InstructorRepository extends JpaRepository<Instructor, Long> {
     @Query("SELECT i FROM Instructor i WHERE i.deletedAt IS NULL")
     Page<Instructor> findAll(Pageable pageable);
 
+    // Served from the second-level cache on repeated lookups
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT i FROM Instructor i WHERE i.id = :id AND i.deletedAt IS NULL")
     Optional<Instructor> findById(Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT i.email FROM Instructor i WHERE i.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT i.id FROM Instructor i WHERE i.id IN :ids AND i.deletedAt IS NULL")
+    List<Long> findActiveIds(Collection<Long> ids);
+
+    // Keyset page of the names and emails of instructors that are not soft-deleted, for the typeahead index
+    @Query("SELECT i.id AS id, i.name AS name, i.email AS email FROM Instructor i " +
+            "WHERE i.id > :after AND i.deletedAt IS NULL ORDER BY i.id")
+    List<PersonContact> findContactsAfter(Long after, Pageable pageable);
+
+    @Query("SELECT i.version FROM Instructor i WHERE i.id = :id AND i.deletedAt IS NULL")
+    Optional<Long> findVersionById(Long id);
+}
@@ -0,0 +1,123 @@
+package com.akib.courseManagementSystem.repository;
+
+import com.akib.courseManagementSystem.dto.OutboxEventDTO;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository for the cms.outbox_event table.
+ * Works directly on JDBC so that events are written on the connection of the surrounding
+ * transaction without going through the persistence context.
+ */
+@Repository
+public class OutboxRepository {
+    /**
+     * Key of the transaction-scoped advisory lock held by the instance that is relaying events.
+     */
+    private static final long RELAY_LOCK_KEY = 0x636d732d6f7574L;
+
+    /**
+     * Number of rows sent to the database per JDBC batch.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for dependency injection of the JdbcTemplate.
+     *
+     * @param jdbcTemplate The template used to run the SQL statements.
+     */
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts one event.
+     *
+     * @param type        The kind of event.
+     * @param aggregateId The ID of the changed aggregate.
+     * @param payload     The event details as JSON.
+     */
+    public void insert(OutboxEventType type, Long aggregateId, String payload) {
+        jdbcTemplate.update(
+                "INSERT INTO cms.outbox_event (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)",
+                type.getAggregateType(), aggregateId, type.name(), payload);
+    }
+
+    /**
+     * Inserts events of one kind using JDBC batching.
+     *
+     * @param type     The kind of the events.
+     * @param payloads The event details as JSON, keyed by the ID of the changed aggregate.
+     */
+    public void batchInsert(OutboxEventType type, List<Map.Entry<Long, String>> payloads) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cms.outbox_event (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)",
+                payloads, BATCH_SIZE,
+                (PreparedStatement ps, Map.Entry<Long, String> payload) -> {
+                    ps.setString(1, type.getAggregateType());
+                    ps.setLong(2, payload.getKey());
+                    ps.setString(3, type.name());
+                    ps.setString(4, payload.getValue());
+                });
+    }
+
+    /**
+     * Takes the relay lock for the current transaction, without waiting.
+     *
+     * @return true if this transaction holds the lock, false if another relay holds it.
+     */
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+    }
+
+    /**
+     * Reads the oldest unpublished events.
+     *
+     * @param limit The maximum number of events to read.
+     * @return The events in ascending ID order.
+     */
+    public List<OutboxEventDTO> findUnpublished(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, aggregate_type, aggregate_id, event_type, payload::text, created_at FROM cms.outbox_event " +
+                        "WHERE published_at IS NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new OutboxEventDTO(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4),
+                        rs.getString(5), rs.getTimestamp(6).toLocalDateTime()),
+                limit);
+    }
+
+    /**
+     * Marks the given events as published.
+     *
+     * @param ids The IDs of the events.
+     */
+    public void markPublished(Collection<Long> ids) {
+        jdbcTemplate.update("UPDATE cms.outbox_event SET published_at = now() WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    /**
+     * Deletes up to {@code limit} of the oldest events that were published before the cutoff.
+     * The IDs of the batch are collected into an array first and deleted through the primary key, so a
+     * batch never joins against the whole table, however many published events are retained.
+     *
+     * @param cutoff Events published before this time are deleted.
+     * @param limit  The maximum number of events to delete.
+     * @return The number of deleted events.
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM cms.outbox_event WHERE id = ANY(ARRAY(SELECT id FROM cms.outbox_event " +
+                        "WHERE published_at < ? ORDER BY id LIMIT ?))",
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
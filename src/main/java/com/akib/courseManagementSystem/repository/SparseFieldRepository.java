@@ -0,0 +1,133 @@
+package com.akib.courseManagementSystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Repository reading only selected columns of the live rows of an entity, for sparse fieldsets.
+ * Builds a Criteria tuple query that selects the given attribute paths and copies each tuple into a new DTO
+ * by property name. No entity is loaded, so neither associations nor the second-level cache are involved;
+ * a path through a many-to-one, such as {@code instructor.id}, reads the foreign key column without a join.
+ * Every entity read here has an {@code id} and a {@code deletedAt} attribute.
+ */
+@Repository
+public class SparseFieldRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for dependency injection of the EntityManager.
+     *
+     * @param entityManager The entity manager creating the queries.
+     */
+    public SparseFieldRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Retrieves the next keyset page of live rows, ordered by ID.
+     *
+     * @param entityType The entity to read.
+     * @param paths      The DTO properties to fill and the entity attribute path of each.
+     * @param after      The ID of the last row of the previous page, or 0 for the first page.
+     * @param limit      The maximum number of rows to return.
+     * @param dtoFactory Creates the empty DTOs.
+     * @param <D>        The DTO type.
+     * @return The DTOs of the rows with an ID greater than {@code after}.
+     */
+    public <D> List<D> findPageAfter(Class<?> entityType, Map<String, String> paths, long after, int limit,
+                                     Supplier<D> dtoFactory) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = selectLive(cb, entityType, paths);
+        Root<?> root = query.getRoots().iterator().next();
+        query.where(query.getRestriction(), cb.greaterThan(root.get("id"), after)).orderBy(cb.asc(root.get("id")));
+        return toDTOs(entityManager.createQuery(query).setMaxResults(limit).getResultList(), paths, dtoFactory);
+    }
+
+    /**
+     * Retrieves one offset page of live rows, ordered by ID, and the number of live rows.
+     *
+     * @param entityType The entity to read.
+     * @param paths      The DTO properties to fill and the entity attribute path of each.
+     * @param pageable   The page to fetch; its sort is ignored.
+     * @param dtoFactory Creates the empty DTOs.
+     * @param <D>        The DTO type.
+     * @return The page of DTOs.
+     */
+    public <D> Page<D> findPage(Class<?> entityType, Map<String, String> paths, Pageable pageable,
+                                Supplier<D> dtoFactory) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = selectLive(cb, entityType, paths);
+        query.orderBy(cb.asc(query.getRoots().iterator().next().get("id")));
+        List<D> content = toDTOs(entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList(), paths, dtoFactory);
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<?> countRoot = count.from(entityType);
+        count.select(cb.count(countRoot)).where(cb.isNull(countRoot.get("deletedAt")));
+        return new PageImpl<>(content, pageable, entityManager.createQuery(count).getSingleResult());
+    }
+
+    /**
+     * Retrieves a single live row.
+     *
+     * @param entityType The entity to read.
+     * @param paths      The DTO properties to fill and the entity attribute path of each.
+     * @param id         The ID of the row.
+     * @param dtoFactory Creates the empty DTO.
+     * @param <D>        The DTO type.
+     * @return An Optional containing the DTO, or empty if the row is not found.
+     */
+    public <D> Optional<D> findById(Class<?> entityType, Map<String, String> paths, Long id, Supplier<D> dtoFactory) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = selectLive(cb, entityType, paths);
+        Root<?> root = query.getRoots().iterator().next();
+        query.where(query.getRestriction(), cb.equal(root.get("id"), id));
+        return toDTOs(entityManager.createQuery(query).getResultList(), paths, dtoFactory).stream().findFirst();
+    }
+
+    private CriteriaQuery<Tuple> selectLive(CriteriaBuilder cb, Class<?> entityType, Map<String, String> paths) {
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        List<Selection<?>> selections = new ArrayList<>();
+        paths.forEach((property, path) -> selections.add(path(root, path).alias(property)));
+        return query.multiselect(selections).where(cb.isNull(root.get("deletedAt")));
+    }
+
+    private static Path<?> path(Root<?> root, String path) {
+        Path<?> current = root;
+        for (String attribute : path.split("\\.")) {
+            current = current.get(attribute);
+        }
+        return current;
+    }
+
+    private static <D> List<D> toDTOs(List<Tuple> tuples, Map<String, String> paths, Supplier<D> dtoFactory) {
+        return tuples.stream().map(tuple -> {
+            D dto = dtoFactory.get();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(dto);
+            for (String property : paths.keySet()) {
+                wrapper.setPropertyValue(property, tuple.get(property));
+            }
+            return dto;
+        }).collect(Collectors.toList());
+    }
+}
@@ -1,10 +1,16 @@
 package com.akib.courseManagementSystem.repository;
 
 import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.projection.PersonContact;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,7 +26,29 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Query("SELECT s FROM Student s WHERE s.deletedAt IS NULL")
     List<Student> findAll();
 
-    // Updated findById to exclude soft-deleted students
+    // Keyset page of students that are not soft-deleted, ordered by ID and starting after the given ID
+    @Query("SELECT s FROM Student s WHERE s.id > :after AND s.deletedAt IS NULL ORDER BY s.id")
+    List<Student> findPageAfter(Long after, Pageable pageable);
+
+    // Updated findById to exclude soft-deleted students; the result is served from the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Student s WHERE s.id = :id AND s.deletedAt IS NULL")
     Optional<Student> findById(Long id);
-}
\ No newline at end of file
+
+    // Checks whether a student exists and is not soft-deleted, without loading it
+    @Query("SELECT COUNT(s) > 0 FROM Student s WHERE s.id = :id AND s.deletedAt IS NULL")
+    boolean existsActiveById(Long id);
+
+    // Emails among the given ones that are already taken, including by soft-deleted students
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // Keyset page of the names and emails of students that are not soft-deleted, for the typeahead index
+    @Query("SELECT s.id AS id, s.name AS name, s.email AS email FROM Student s " +
+            "WHERE s.id > :after AND s.deletedAt IS NULL ORDER BY s.id")
+    List<PersonContact> findContactsAfter(Long after, Pageable pageable);
+
+    // Reads only the row version of a student that is not soft-deleted
+    @Query("SELECT s.version FROM Student s WHERE s.id = :id AND s.deletedAt IS NULL")
+    Optional<Long> findVersionById(Long id);
+}
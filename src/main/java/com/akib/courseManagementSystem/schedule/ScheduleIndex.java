@@ -0,0 +1,155 @@
+package com.akib.courseManagementSystem.schedule;
+
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Interval tree over the date ranges of a student's courses, for overlap checks.
+ * <p>
+ * Courses are sorted by start date and read as an implicit balanced search tree: the middle course of every
+ * range of positions is the root of that range, and stores the latest end date within it. A search skips every
+ * subtree whose latest end is before the range starts, and every right subtree once the root starts after the
+ * range ends, so finding the k overlapping courses costs O(log n + k log n) rather than a comparison with every
+ * course. {@link #overlapsAny} only needs the running maximum of the end dates up to the last course starting
+ * within the range, a binary search away, and costs O(log n).
+ * Both dates are inclusive; courses without a start or end date are never in conflict.
+ * <p>
+ * Building the index sorts the courses, O(n log n), so it pays off when many ranges are checked against the
+ * same courses, as for a whole schedule; a single check is cheaper as a query. Immutable once built.
+ */
+public class ScheduleIndex {
+
+    private final long[] courseIds;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final long[] subtreeMaxEnds;
+
+    /**
+     * Builds the index over the dated courses among the given entries.
+     *
+     * @param entries The courses of a student.
+     */
+    public ScheduleIndex(Collection<ScheduleEntryDTO> entries) {
+        List<ScheduleEntryDTO> dated = new ArrayList<>();
+        for (ScheduleEntryDTO entry : entries) {
+            if (entry.getStartDate() != null && entry.getEndDate() != null) {
+                dated.add(entry);
+            }
+        }
+        dated.sort(Comparator.comparing(ScheduleEntryDTO::getStartDate).thenComparing(ScheduleEntryDTO::getCourseId));
+        int size = dated.size();
+        courseIds = new long[size];
+        starts = new long[size];
+        ends = new long[size];
+        maxEnds = new long[size];
+        subtreeMaxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            ScheduleEntryDTO entry = dated.get(i);
+            courseIds[i] = entry.getCourseId();
+            starts[i] = entry.getStartDate().toEpochDay();
+            ends[i] = entry.getEndDate().toEpochDay();
+            maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+        }
+        buildSubtree(0, size - 1);
+    }
+
+    /**
+     * Checks whether any course overlaps the given range, in O(log n).
+     *
+     * @param start The first day of the range, or null.
+     * @param end   The last day of the range, or null.
+     * @return true if a course overlaps the range; false if it does not, or the range has no dates.
+     */
+    public boolean overlapsAny(LocalDate start, LocalDate end) {
+        if (start == null || end == null) {
+            return false;
+        }
+        int last = lastStartingOnOrBefore(end.toEpochDay());
+        return last >= 0 && maxEnds[last] >= start.toEpochDay();
+    }
+
+    /**
+     * Finds the courses that overlap the given range, in O(log n + k log n) for k overlapping courses.
+     *
+     * @param start The first day of the range, or null.
+     * @param end   The last day of the range, or null.
+     * @return The IDs of the overlapping courses, ordered by start date; empty if the range has no dates.
+     */
+    public List<Long> overlapping(LocalDate start, LocalDate end) {
+        List<Long> overlapping = new ArrayList<>();
+        if (start == null || end == null) {
+            return overlapping;
+        }
+        collectOverlapping(0, courseIds.length - 1, start.toEpochDay(), end.toEpochDay(), overlapping);
+        return overlapping;
+    }
+
+    /**
+     * @return The number of dated courses in the index.
+     */
+    public int size() {
+        return courseIds.length;
+    }
+
+    /**
+     * Stores the latest end date of every subtree at its root, the middle position of its range.
+     *
+     * @return The latest end date within the range, or {@link Long#MIN_VALUE} if the range is empty.
+     */
+    private long buildSubtree(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        subtreeMaxEnds[mid] = Math.max(ends[mid], Math.max(buildSubtree(low, mid - 1), buildSubtree(mid + 1, high)));
+        return subtreeMaxEnds[mid];
+    }
+
+    /**
+     * Adds the courses of a subtree that overlap the days {@code from..to}, in start order.
+     */
+    private void collectOverlapping(int low, int high, long from, long to, List<Long> overlapping) {
+        if (low > high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (subtreeMaxEnds[mid] < from) {
+            // Every course of this subtree has ended before the range starts
+            return;
+        }
+        collectOverlapping(low, mid - 1, from, to, overlapping);
+        if (starts[mid] > to) {
+            // This course and every course after it start after the range ends
+            return;
+        }
+        if (ends[mid] >= from) {
+            overlapping.add(courseIds[mid]);
+        }
+        collectOverlapping(mid + 1, high, from, to, overlapping);
+    }
+
+    /**
+     * Binary search for the last course that starts on or before the given day.
+     *
+     * @return Its position, or -1 if every course starts later.
+     */
+    private int lastStartingOnOrBefore(long day) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+}
@@ -0,0 +1,50 @@
+package com.akib.courseManagementSystem.scheduler;
+
+import com.akib.courseManagementSystem.dto.ArchivalReportDTO;
+import com.akib.courseManagementSystem.service.ArchivalService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the archival of soft-deleted rows on the {@code cms.archival.cron} schedule.
+ * Each run logs how many rows it moved and adds them to the {@code cms.archival.rows} counter,
+ * tagged by table. Disabled with {@code cms.archival.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "cms.archival.enabled", havingValue = "true", matchIfMissing = true)
+public class ArchivalJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalJob.class);
+    private final ArchivalService archivalService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param archivalService the service performing the archival.
+     * @param meterRegistry   the registry the moved row counts are published to.
+     */
+    public ArchivalJob(ArchivalService archivalService, MeterRegistry meterRegistry) {
+        this.archivalService = archivalService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Archives rows soft deleted longer than the retention period ago.
+     */
+    @Scheduled(cron = "${cms.archival.cron:0 30 3 * * *}")
+    public void archiveSoftDeleted() {
+        ArchivalReportDTO report = archivalService.archiveSoftDeleted();
+        logger.info("Archival run moved {} courses, {} students, {} instructors and {} enrollments in {} ms",
+                report.getCourses(), report.getStudents(), report.getInstructors(), report.getEnrollments(),
+                report.getDurationMillis());
+        meterRegistry.counter("cms.archival.rows", "table", "courses").increment(report.getCourses());
+        meterRegistry.counter("cms.archival.rows", "table", "students").increment(report.getStudents());
+        meterRegistry.counter("cms.archival.rows", "table", "instructors").increment(report.getInstructors());
+        meterRegistry.counter("cms.archival.rows", "table", "course_student").increment(report.getEnrollments());
+    }
+}
@@ -0,0 +1,56 @@
+package com.akib.courseManagementSystem.scheduler;
+
+import com.akib.courseManagementSystem.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the transactional outbox in the background, off the request path.
+ * Polls every {@code cms.outbox.relay-interval-ms} and publishes the whole backlog; published events
+ * are counted in {@code cms.outbox.published}. Old published events are purged on
+ * {@code cms.outbox.purge-cron}. Disabled with {@code cms.outbox.relay.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "cms.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private final OutboxService outboxService;
+    private final Counter publishedCounter;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param outboxService the service publishing the events.
+     * @param meterRegistry the registry the published event count is reported to.
+     */
+    public OutboxRelay(OutboxService outboxService, MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.publishedCounter = meterRegistry.counter("cms.outbox.published");
+    }
+
+    /**
+     * Publishes all pending events.
+     */
+    @Scheduled(fixedDelayString = "${cms.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        int published = outboxService.publishPending();
+        if (published > 0) {
+            publishedCounter.increment(published);
+            logger.debug("Relayed {} outbox events", published);
+        }
+    }
+
+    /**
+     * Deletes events published longer than the retention period ago.
+     */
+    @Scheduled(cron = "${cms.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        logger.info("Purged {} published outbox events", outboxService.purgePublished());
+    }
+}
@@ -0,0 +1,147 @@
+package com.akib.courseManagementSystem.search;
+
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+import com.akib.courseManagementSystem.projection.PersonContact;
+import com.akib.courseManagementSystem.repository.InstructorRepository;
+import com.akib.courseManagementSystem.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Holds the typeahead indexes of the students and instructors.
+ * Both are loaded from the live rows once the application has started, and kept current by the
+ * create, update, delete and import paths. Inside a transaction a change is applied only after commit,
+ * so a rolled back change never shows up in the search results.
+ */
+@Component
+public class PeopleTypeahead {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeopleTypeahead.class);
+    /**
+     * Number of rows read per query while loading an index.
+     */
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private final StudentRepository studentRepository;
+    private final InstructorRepository instructorRepository;
+    private final TypeaheadIndex students = new TypeaheadIndex();
+    private final TypeaheadIndex instructors = new TypeaheadIndex();
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param studentRepository    the repository the student index is loaded from.
+     * @param instructorRepository the repository the instructor index is loaded from.
+     */
+    public PeopleTypeahead(StudentRepository studentRepository, InstructorRepository instructorRepository) {
+        this.studentRepository = studentRepository;
+        this.instructorRepository = instructorRepository;
+    }
+
+    /**
+     * Loads both indexes from the live students and instructors.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        load(students, studentRepository::findContactsAfter);
+        load(instructors, instructorRepository::findContactsAfter);
+        logger.info("Loaded typeahead indexes with {} students and {} instructors in {} ms",
+                students.size(), instructors.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Finds students by the beginning of the words in their name or email.
+     *
+     * @param query The text typed so far.
+     * @param limit The maximum number of matches.
+     * @return The best matches.
+     */
+    public List<TypeaheadHitDTO> searchStudents(String query, int limit) {
+        return students.search(query, limit);
+    }
+
+    /**
+     * Finds instructors by the beginning of the words in their name or email.
+     *
+     * @param query The text typed so far.
+     * @param limit The maximum number of matches.
+     * @return The best matches.
+     */
+    public List<TypeaheadHitDTO> searchInstructors(String query, int limit) {
+        return instructors.search(query, limit);
+    }
+
+    /**
+     * Adds or updates a student.
+     *
+     * @param id    The ID of the student.
+     * @param name  The name of the student.
+     * @param email The email address of the student.
+     */
+    public void studentSaved(Long id, String name, String email) {
+        afterCommit(() -> students.put(id, name, email));
+    }
+
+    /**
+     * Removes a deleted student.
+     *
+     * @param id The ID of the student.
+     */
+    public void studentRemoved(Long id) {
+        afterCommit(() -> students.remove(id));
+    }
+
+    /**
+     * Adds or updates an instructor.
+     *
+     * @param id    The ID of the instructor.
+     * @param name  The name of the instructor.
+     * @param email The email address of the instructor.
+     */
+    public void instructorSaved(Long id, String name, String email) {
+        afterCommit(() -> instructors.put(id, name, email));
+    }
+
+    /**
+     * Removes a deleted instructor.
+     *
+     * @param id The ID of the instructor.
+     */
+    public void instructorRemoved(Long id) {
+        afterCommit(() -> instructors.remove(id));
+    }
+
+    private static void load(TypeaheadIndex index, BiFunction<Long, PageRequest, List<PersonContact>> pageAfter) {
+        long after = 0;
+        List<PersonContact> page;
+        do {
+            page = pageAfter.apply(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (PersonContact contact : page) {
+                index.put(contact.getId(), contact.getName(), contact.getEmail());
+                after = contact.getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
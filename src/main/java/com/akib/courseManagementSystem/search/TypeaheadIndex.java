@@ -0,0 +1,162 @@
+package com.akib.courseManagementSystem.search;
+
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over the names and email addresses of people, for search-as-you-type.
+ * <p>
+ * Names and emails are split into lower-cased tokens at every character that is not a letter or digit
+ * ({@code "Jane.Doe@example.com"} gives {@code jane, doe, example, com}). Each token maps to the IDs of
+ * the entries containing it, in a sorted map, so all tokens starting with a typed prefix are one range
+ * scan away. A query matches an entry when every query term is the prefix of one of its tokens. Results
+ * are ranked by the token the longest term matched, in token order, so exact words come before longer
+ * words sharing the prefix; the scan stops as soon as {@code limit} entries are found, or after
+ * {@value #MAX_CANDIDATES} candidates when the other terms rule out most entries under a common prefix.
+ * <p>
+ * Safe for concurrent use. Searches do not lock; updates and removals are serialized and take the ID
+ * out of the postings of every token it no longer has, so postings only hold live entries.
+ */
+public class TypeaheadIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    /**
+     * Upper bound for the number of entries a single search checks against its terms.
+     */
+    private static final int MAX_CANDIDATES = 10_000;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds an entry or replaces the name and email of an existing one.
+     *
+     * @param id    The ID of the person.
+     * @param name  The name of the person.
+     * @param email The email address of the person.
+     */
+    public synchronized void put(Long id, String name, String email) {
+        Entry entry = new Entry(id, name, email, tokensOf(name + " " + email));
+        Entry previous = entries.put(id, entry);
+        for (String token : entry.tokens()) {
+            postings.computeIfAbsent(token, key -> new ConcurrentSkipListSet<>()).add(id);
+        }
+        if (previous != null) {
+            removePostings(id, previous.tokens().stream().filter(token -> !entry.tokens().contains(token)).toList());
+        }
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param id The ID of the person.
+     */
+    public synchronized void remove(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            removePostings(id, previous.tokens());
+        }
+    }
+
+    /**
+     * @return The number of entries in the index.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of IDs held by the postings of all tokens.
+     */
+    int postingsSize() {
+        return postings.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Finds the entries whose name or email contains a word starting with each term of the query.
+     *
+     * @param query The text typed so far; terms are separated like the indexed tokens.
+     * @param limit The maximum number of matches to return.
+     * @return The best matches, at most {@code limit} of them.
+     */
+    public List<TypeaheadHitDTO> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(tokensOf(query == null ? "" : query));
+        List<TypeaheadHitDTO> hits = new ArrayList<>();
+        if (terms.isEmpty() || limit <= 0) {
+            return hits;
+        }
+        // The longest term is usually the most selective one; the others are checked per candidate
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+        String lead = terms.get(0);
+        Set<Long> seen = new HashSet<>();
+        for (Set<Long> ids : postings.subMap(lead, true, lead + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Entry entry = entries.get(id);
+                if (entry != null && entry.matches(terms)) {
+                    hits.add(new TypeaheadHitDTO(entry.id(), entry.name(), entry.email()));
+                    if (hits.size() == limit) {
+                        return hits;
+                    }
+                }
+                if (seen.size() == MAX_CANDIDATES) {
+                    return hits;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Takes an ID out of the postings of the given tokens and drops the postings left empty.
+     * Callers hold the index lock, so no ID is added to the postings of these tokens meanwhile.
+     */
+    private void removePostings(Long id, Collection<String> tokens) {
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static Set<String> tokensOf(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * An indexed person with the tokens of its current name and email.
+     */
+    private record Entry(Long id, String name, String email, Set<String> tokens) {
+
+        boolean matches(List<String> terms) {
+            for (String term : terms) {
+                if (tokens.stream().noneMatch(token -> token.startsWith(term))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.akib.courseManagementSystem.service;
+
+import com.akib.courseManagementSystem.dto.ArchivalReportDTO;
+
+/**
+ * Service interface for moving long soft-deleted rows out of the live tables.
+ */
+public interface ArchivalService {
+
+    /**
+     * Moves courses, students and instructors that were soft deleted longer than the retention period
+     * ago, together with their course_student rows, into the archive tables. Works in small batches,
+     * each in its own short transaction, with a pause between batches.
+     *
+     * @return The number of rows moved per table.
+     */
+    ArchivalReportDTO archiveSoftDeleted();
+}
@@ -1,10 +1,22 @@
 package com.akib.courseManagementSystem.service;
 
 import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.dto.ScheduledEnrollmentDTO;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.enums.CourseDateWindow;
+import com.akib.courseManagementSystem.enums.CourseSortField;
+import com.akib.courseManagementSystem.enums.RosterSortField;
+import com.akib.courseManagementSystem.enums.ScheduleConflictPolicy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for managing course-related operations in the course management system.
@@ -21,11 +33,35 @@ public interface CourseService {
     CourseDTO saveCourse(CourseDTO courseDTO);
 
     /**
-     * Retrieves a list of all courses.
+     * Retrieves one keyset page of courses.
      *
-     * @return A list of CourseDTOs representing all courses in the system.
+     * @param after Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit The maximum number of courses to return.
+     * @return A page of CourseDTOs and the cursor of the next page.
      */
-    List<CourseDTO> getAllCourses();
+    CursorPage<CourseDTO> getAllCourses(String after, int limit);
+
+    /**
+     * Retrieves one keyset page of courses, reading only the requested fields.
+     * Fields that are not requested are not read from the database and stay null; the join table is only
+     * queried when {@code studentIds} is requested.
+     *
+     * @param after  Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of courses to return.
+     * @param fields The CourseDTO fields to read, or null for all of them.
+     * @return A page of CourseDTOs holding the requested fields and the ID, and the cursor of the next page.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    CursorPage<CourseDTO> getAllCourses(String after, int limit, Set<String> fields);
+
+    /**
+     * Writes every course as newline-delimited JSON to the given stream.
+     * Courses are written one at a time as they are read, so memory use does not grow with the catalog size.
+     *
+     * @param out The stream the NDJSON lines are written to.
+     * @throws IOException if writing to the stream fails.
+     */
+    void exportCourses(OutputStream out) throws IOException;
 
     /**
      * Retrieves a course by its ID.
@@ -35,6 +71,24 @@ public interface CourseService {
      */
     Optional<CourseDTO> getCourseById(Long id);
 
+    /**
+     * Retrieves a course by its ID, reading only the requested fields.
+     *
+     * @param id     The ID of the course to retrieve.
+     * @param fields The CourseDTO fields to read, or null for all of them.
+     * @return An Optional containing the CourseDTO if found, or empty if not.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    Optional<CourseDTO> getCourseById(Long id, Set<String> fields);
+
+    /**
+     * Computes the ETag of a course from its row version, without loading the course.
+     *
+     * @param id The ID of the course.
+     * @return An Optional containing the quoted ETag, or empty if the course is not found.
+     */
+    Optional<String> getCourseETag(Long id);
+
     /**
      * Updates an existing course with the provided details.
      *
@@ -61,14 +115,40 @@ public interface CourseService {
     CourseDTO assignInstructorToCourse(Long courseId, Long instructorId);
 
     /**
-     * Enrolls a student in a course.
+     * Enrolls a student in a course. Enrolling a student that is already enrolled is a no-op.
+     * A course with a capacity is never enrolled beyond it, however many students enroll concurrently.
      *
      * @param courseId  The ID of the course.
      * @param studentId The ID of the student to enroll.
      * @return The updated CourseDTO with the enrolled student.
+     * @throws com.akib.courseManagementSystem.exception.CourseFullException if every seat of the course is taken.
      */
     CourseDTO enrollStudentInCourse(Long courseId, Long studentId);
 
+    /**
+     * Enrolls a student in a course, applying a policy to date overlaps with the student's other courses.
+     * With {@link ScheduleConflictPolicy#FLAG} and {@link ScheduleConflictPolicy#REJECT} the schedule check and
+     * the enrollment run in one transaction that holds the student row, so two concurrent rejecting enrollments
+     * of a student cannot both pass and a flagged enrollment reports the overlaps it was committed with.
+     * {@link ScheduleConflictPolicy#IGNORE} enrolls as usual without checking.
+     *
+     * @param courseId       The ID of the course.
+     * @param studentId      The ID of the student to enroll.
+     * @param conflictPolicy What to do when the course overlaps the student's other courses.
+     * @return The updated CourseDTO with the enrolled student and the overlapping courses, empty when ignored.
+     * @throws com.akib.courseManagementSystem.exception.CourseFullException        if every seat of the course is taken.
+     * @throws com.akib.courseManagementSystem.exception.ScheduleConflictException if the policy rejects an overlap.
+     */
+    ScheduledEnrollmentDTO enrollStudentInCourse(Long courseId, Long studentId, ScheduleConflictPolicy conflictPolicy);
+
+    /**
+     * Removes a student from a course. Does nothing if the student is not enrolled.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student to remove.
+     */
+    void unenrollStudentFromCourse(Long courseId, Long studentId);
+
     /**
      * Retrieves all courses taught by a specific instructor.
      *
@@ -78,10 +158,64 @@ public interface CourseService {
     List<CourseDTO> getCoursesByInstructor(Long instructorId);
 
     /**
-     * Retrieves all students enrolled in a specific course.
+     * Retrieves the courses taught by a specific instructor, filtered and sorted by enrollment count or
+     * other course fields. The enrollment counts come from the course rows, so the rosters are only read
+     * when the student IDs are requested.
+     *
+     * @param instructorId    The ID of the instructor.
+     * @param minEnrollment   The minimum number of enrolled students a course must have.
+     * @param sortBy          The field to sort the courses by.
+     * @param direction       The sort direction.
+     * @param includeStudents Whether to fill in the student IDs of each course.
+     * @return A list of CourseDTOs in the requested order.
+     */
+    List<CourseDTO> getCoursesByInstructor(Long instructorId, int minEnrollment, CourseSortField sortBy,
+                                           Sort.Direction direction, boolean includeStudents);
+
+    /**
+     * Retrieves one keyset page of the live courses that are active, start or end within a window of dates.
+     * The results carry the course fields and enrollment counts, without student IDs.
+     *
+     * @param window The relation of the courses to the window.
+     * @param from   The first day of the window, inclusive.
+     * @param to     The last day of the window, inclusive.
+     * @param after  Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of courses to return.
+     * @return A page of CourseDTOs and the cursor of the next page; empty if {@code from} is after {@code to}.
+     */
+    CursorPage<CourseDTO> getCoursesInWindow(CourseDateWindow window, LocalDate from, LocalDate to,
+                                             String after, int limit);
+
+    /**
+     * Searches the title and description of the live courses, best match first.
+     * The results carry the course fields and enrollment counts, without student IDs.
+     *
+     * @param query The search text, in web search syntax ({@code "phrase"}, {@code or}, {@code -word}).
+     * @param page  The zero-based page number.
+     * @param size  The number of courses per page.
+     * @return A page of the matching CourseDTOs and the total number of matches.
+     */
+    Page<CourseDTO> searchCourses(String query, int page, int size);
+
+    /**
+     * Computes the ETag of the roster of a course without loading the students.
+     * It changes whenever a student is enrolled or removed, or an enrolled student changes.
      *
      * @param courseId The ID of the course.
-     * @return A list of StudentDTOs representing the students enrolled in the course.
+     * @return An Optional containing the quoted ETag, or empty if the course is not found.
+     */
+    Optional<String> getRosterETag(Long courseId);
+
+    /**
+     * Retrieves one keyset page of the students enrolled in a specific course, excluding soft-deleted students.
+     *
+     * @param courseId  The ID of the course.
+     * @param after     Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit     The maximum number of students to return.
+     * @param sortBy    The field to sort the students by.
+     * @param direction The sort direction.
+     * @return A page of StudentDTOs and the cursor of the next page.
      */
-    List<StudentDTO> getStudentsInCourse(Long courseId);
+    CursorPage<StudentDTO> getStudentsInCourse(Long courseId, String after, int limit, RosterSortField sortBy,
+                                               Sort.Direction direction);
 }
\ No newline at end of file
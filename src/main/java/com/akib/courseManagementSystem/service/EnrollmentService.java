@@ -0,0 +1,29 @@
+package com.akib.courseManagementSystem.service;
+
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentResultDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk enrollment of students into courses.
+ * Validates and writes many enrollments at once and reports the outcome of every pair.
+ */
+public interface EnrollmentService {
+    /**
+     * Enrolls several students in one course.
+     *
+     * @param courseId   The ID of the course.
+     * @param studentIds The IDs of the students to enroll.
+     * @return One result per requested student, in request order.
+     */
+    List<EnrollmentResultDTO> enrollStudents(Long courseId, List<Long> studentIds);
+
+    /**
+     * Enrolls an arbitrary list of (course, student) pairs.
+     *
+     * @param pairs The pairs to enroll.
+     * @return One result per requested pair, in request order.
+     */
+    List<EnrollmentResultDTO> enrollPairs(List<EnrollmentRequestDTO> pairs);
+}
@@ -0,0 +1,23 @@
+package com.akib.courseManagementSystem.service;
+
+import com.akib.courseManagementSystem.dto.ImportSummaryDTO;
+import com.akib.courseManagementSystem.enums.ImportEntityType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk importing students, instructors and courses from CSV.
+ */
+public interface ImportService {
+    /**
+     * Imports the CSV rows of the given input. The first row must be a header naming the columns.
+     * Rows are committed in chunks; invalid rows are skipped and reported in the summary.
+     *
+     * @param type  The kind of records contained in the input.
+     * @param input The CSV input, read as UTF-8.
+     * @return A summary of the imported and rejected rows.
+     * @throws IOException if the input cannot be read.
+     */
+    ImportSummaryDTO importCsv(ImportEntityType type, InputStream input) throws IOException;
+}
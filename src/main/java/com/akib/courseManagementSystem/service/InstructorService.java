@@ -1,8 +1,11 @@
 package com.akib.courseManagementSystem.service;
 
 import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page; // Added for pagination
 
@@ -35,6 +38,18 @@ public interface InstructorService {
      */
     Page<InstructorDTO> getAllInstructors(int page, int size);
 
+    /**
+     * Retrieves one page of instructors, ordered by ID, reading only the requested fields.
+     * Fields that are not requested are not read from the database and stay null.
+     *
+     * @param page   The zero-based page number.
+     * @param size   The page size.
+     * @param fields The InstructorDTO fields to read, or null for all of them.
+     * @return A page of InstructorDTOs holding the requested fields and the ID.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    Page<InstructorDTO> getAllInstructors(int page, int size, Set<String> fields);
+
     /**
      * Retrieves a specific instructor by ID.
      *
@@ -43,6 +58,24 @@ public interface InstructorService {
      */
     InstructorDTO getInstructorById(Long id);
 
+    /**
+     * Retrieves a specific instructor by ID, reading only the requested fields.
+     *
+     * @param id     The ID of the instructor to retrieve.
+     * @param fields The InstructorDTO fields to read, or null for all of them.
+     * @return The InstructorDTO holding the requested fields and the ID.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    InstructorDTO getInstructorById(Long id, Set<String> fields);
+
+    /**
+     * Computes the ETag of an instructor from its row version, without loading the instructor.
+     *
+     * @param id The ID of the instructor.
+     * @return An Optional containing the quoted ETag, or empty if the instructor is not found.
+     */
+    Optional<String> getInstructorETag(Long id);
+
     /**
      * Updates an existing instructor's details.
      *
@@ -58,4 +91,13 @@ public interface InstructorService {
      * @param id The ID of the instructor to delete.
      */
     void deleteInstructor(Long id);
+
+    /**
+     * Finds instructors whose name or email contains words starting with every word of the query.
+     *
+     * @param query the text typed so far.
+     * @param limit the maximum number of matches to return.
+     * @return the matching instructors, with their ID, name and email.
+     */
+    List<TypeaheadHitDTO> searchInstructors(String query, int limit);
 }
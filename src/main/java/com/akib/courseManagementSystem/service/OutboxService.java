@@ -0,0 +1,50 @@
+package com.akib.courseManagementSystem.service;
+
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Service interface for the transactional outbox.
+ * Events are recorded in the transaction of the change they describe, so they are committed or
+ * rolled back together with it, and published asynchronously by the relay.
+ */
+public interface OutboxService {
+
+    /**
+     * Records an event in the current transaction.
+     *
+     * @param type        The kind of event.
+     * @param aggregateId The ID of the changed course, student or instructor.
+     * @param payload     The event details; serialized to JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+     */
+    void record(OutboxEventType type, Long aggregateId, Object payload);
+
+    /**
+     * Records one event per payload in the current transaction.
+     *
+     * @param type          The kind of the events.
+     * @param payloads      The event details; each is serialized to JSON.
+     * @param aggregateIdOf Function extracting the ID of the changed aggregate from a payload.
+     * @param <T>           The type of the payloads.
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active.
+     */
+    <T> void recordAll(OutboxEventType type, Collection<T> payloads, Function<T, Long> aggregateIdOf);
+
+    /**
+     * Publishes unpublished events to the sinks in ID order, batch by batch, until the backlog is empty.
+     * Does nothing if another instance is publishing at the same time.
+     *
+     * @return The number of published events.
+     */
+    int publishPending();
+
+    /**
+     * Deletes events that were published longer than the retention period ago.
+     *
+     * @return The number of deleted events.
+     */
+    int purgePublished();
+}
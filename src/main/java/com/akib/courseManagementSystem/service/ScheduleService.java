@@ -0,0 +1,29 @@
+package com.akib.courseManagementSystem.service;
+
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for the course schedules of students.
+ * Defines the contract for listing a student's courses by date and finding overlapping courses.
+ */
+public interface ScheduleService {
+
+    /**
+     * Retrieves the courses of a student ordered by start date, each with the other courses it overlaps.
+     *
+     * @param studentId the ID of the student.
+     * @return the schedule of the student.
+     */
+    List<ScheduleEntryDTO> getSchedule(Long studentId);
+
+    /**
+     * Finds the courses of a student whose dates overlap the dates of another course.
+     *
+     * @param studentId the ID of the student.
+     * @param courseId  the ID of the course to check.
+     * @return the IDs of the overlapping courses, ordered by start date, without the checked course itself.
+     */
+    List<Long> findConflicts(Long studentId, Long courseId);
+}
@@ -1,8 +1,12 @@
 package com.akib.courseManagementSystem.service;
 
+import com.akib.courseManagementSystem.dto.CursorPage;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for managing Student-related operations.
@@ -19,11 +23,25 @@ public interface StudentService {
     StudentDTO createStudent(StudentDTO studentDTO);
 
     /**
-     * Retrieves a list of all students.
+     * Retrieves one keyset page of students.
      *
-     * @return a list of StudentDTOs representing all students in the system.
+     * @param after opaque cursor returned with the previous page, or null for the first page.
+     * @param limit the maximum number of students to return.
+     * @return a page of StudentDTOs and the cursor of the next page.
      */
-    List<StudentDTO> getAllStudents();
+    CursorPage<StudentDTO> getAllStudents(String after, int limit);
+
+    /**
+     * Retrieves one keyset page of students, reading only the requested fields.
+     * Fields that are not requested are not read from the database and stay null.
+     *
+     * @param after  opaque cursor returned with the previous page, or null for the first page.
+     * @param limit  the maximum number of students to return.
+     * @param fields the StudentDTO fields to read, or null for all of them.
+     * @return a page of StudentDTOs holding the requested fields and the ID, and the cursor of the next page.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    CursorPage<StudentDTO> getAllStudents(String after, int limit, Set<String> fields);
 
     /**
      * Retrieves a student by their ID.
@@ -33,6 +51,24 @@ public interface StudentService {
      */
     StudentDTO getStudentById(Long id);
 
+    /**
+     * Retrieves a student by their ID, reading only the requested fields.
+     *
+     * @param id     the ID of the student to retrieve.
+     * @param fields the StudentDTO fields to read, or null for all of them.
+     * @return the StudentDTO holding the requested fields and the ID.
+     * @throws IllegalArgumentException if a requested field does not exist.
+     */
+    StudentDTO getStudentById(Long id, Set<String> fields);
+
+    /**
+     * Computes the ETag of a student from its row version, without loading the student.
+     *
+     * @param id the ID of the student.
+     * @return an Optional containing the quoted ETag, or empty if the student is not found.
+     */
+    Optional<String> getStudentETag(Long id);
+
     /**
      * Updates an existing student's information.
      *
@@ -48,4 +84,13 @@ public interface StudentService {
      * @param id the ID of the student to delete.
      */
     void deleteStudent(Long id);
+
+    /**
+     * Finds students whose name or email contains words starting with every word of the query.
+     *
+     * @param query the text typed so far.
+     * @param limit the maximum number of matches to return.
+     * @return the matching students, with their ID, name and email.
+     */
+    List<TypeaheadHitDTO> searchStudents(String query, int limit);
 }
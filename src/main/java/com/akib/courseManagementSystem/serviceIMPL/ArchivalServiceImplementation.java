@@ -0,0 +1,152 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.cache.EntityCacheEvictor;
+import com.akib.courseManagementSystem.dto.ArchivalReportDTO;
+import com.akib.courseManagementSystem.repository.ArchivalRepository;
+import com.akib.courseManagementSystem.service.ArchivalService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the ArchivalService interface.
+ * Each table is walked in ID order with a keyset cursor. Every batch of {@code cms.archival.batch-size}
+ * rows is locked, moved and committed in its own transaction, and the job pauses for
+ * {@code cms.archival.throttle} before the next batch, so locks on the live tables are held only
+ * briefly and regular traffic keeps its share of the database. Courses are archived before
+ * instructors, so that instructors whose last courses were archived can follow in the same run.
+ */
+@Service
+@Timed("cms.service")
+public class ArchivalServiceImplementation implements ArchivalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalServiceImplementation.class);
+    private final ArchivalRepository archivalRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration throttle;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param archivalRepository  the repository moving rows into the archive tables.
+     * @param entityCacheEvictor  the evictor used to drop archived rows from the second-level cache.
+     * @param transactionTemplate the template running one transaction per batch.
+     * @param retention           how long soft-deleted rows stay in the live tables.
+     * @param batchSize           the number of rows moved per transaction.
+     * @param throttle            the pause between two batches.
+     */
+    public ArchivalServiceImplementation(ArchivalRepository archivalRepository,
+                                         EntityCacheEvictor entityCacheEvictor,
+                                         TransactionTemplate transactionTemplate,
+                                         @Value("${cms.archival.retention:30d}") Duration retention,
+                                         @Value("${cms.archival.batch-size:500}") int batchSize,
+                                         @Value("${cms.archival.throttle:200ms}") Duration throttle) {
+        this.archivalRepository = archivalRepository;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArchivalReportDTO archiveSoftDeleted() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        logger.info("Archiving rows soft deleted before {}", cutoff);
+        ArchivalReportDTO report = new ArchivalReportDTO();
+        report.setCutoff(cutoff);
+
+        report.setCourses(archiveInBatches(cutoff, archivalRepository::lockArchivableCourseIds, courseIds -> {
+            report.setEnrollments(report.getEnrollments() + archivalRepository.archiveEnrollmentsOfCourses(courseIds));
+            archivalRepository.archiveCourses(courseIds);
+            entityCacheEvictor.evictCourses(courseIds);
+        }));
+        report.setStudents(archiveInBatches(cutoff, archivalRepository::lockArchivableStudentIds, studentIds -> {
+            Map<Long, Integer> shrunkRosters = archivalRepository.archiveEnrollmentsOfStudents(studentIds);
+            report.setEnrollments(report.getEnrollments()
+                    + shrunkRosters.values().stream().mapToLong(Integer::longValue).sum());
+            archivalRepository.archiveStudents(studentIds);
+            // Rosters of the remaining courses changed: no cached roster may point at a removed student
+            entityCacheEvictor.evictCourses(shrunkRosters.keySet());
+            studentIds.forEach(entityCacheEvictor::evictStudent);
+        }));
+        report.setInstructors(archiveInBatches(cutoff, archivalRepository::lockArchivableInstructorIds, instructorIds -> {
+            archivalRepository.archiveInstructors(instructorIds);
+            instructorIds.forEach(entityCacheEvictor::evictInstructor);
+        }));
+
+        report.setDurationMillis((System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Archives one table batch by batch, following the IDs in ascending order.
+     *
+     * @param cutoff   Rows deleted before this time are archived.
+     * @param locator  Locks the next batch of archivable IDs after a given ID.
+     * @param archiver Moves a locked batch; runs in the same transaction as the locator.
+     * @return The number of archived rows.
+     */
+    private long archiveInBatches(LocalDateTime cutoff, BatchLocator locator, Consumer<List<Long>> archiver) {
+        long archived = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = locator.lock(cutoff, from, batchSize);
+                if (!batch.isEmpty()) {
+                    archiver.accept(batch);
+                }
+                return batch;
+            });
+            if (ids == null || ids.isEmpty()) {
+                return archived;
+            }
+            archived += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize || !pause()) {
+                return archived;
+            }
+        }
+    }
+
+    /**
+     * Sleeps for the configured throttle.
+     *
+     * @return false if the thread was interrupted and the run should stop.
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(throttle);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Archival interrupted, stopping after the current batch");
+            return false;
+        }
+    }
+
+    /**
+     * Locks the next batch of archivable IDs of one table.
+     */
+    @FunctionalInterface
+    private interface BatchLocator {
+        List<Long> lock(LocalDateTime cutoff, long afterId, int limit);
+    }
+}
@@ -1,23 +1,66 @@
 package com.akib.courseManagementSystem.serviceIMPL;
 
+import com.akib.courseManagementSystem.cache.EntityCacheEvictor;
 import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.dto.ScheduledEnrollmentDTO;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.enrollment.EnrollmentBatcher;
 import com.akib.courseManagementSystem.entity.Course;
 import com.akib.courseManagementSystem.entity.Instructor;
-import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.enums.CourseDateWindow;
+import com.akib.courseManagementSystem.enums.CourseSortField;
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.enums.RosterSortField;
+import com.akib.courseManagementSystem.enums.ScheduleConflictPolicy;
+import com.akib.courseManagementSystem.exception.CourseFullException;
+import com.akib.courseManagementSystem.exception.InvalidRequestParameterException;
+import com.akib.courseManagementSystem.exception.ScheduleConflictException;
+import com.akib.courseManagementSystem.fields.SparseFields;
+import com.akib.courseManagementSystem.mapper.CourseMapper;
+import com.akib.courseManagementSystem.projection.CourseStudentId;
+import com.akib.courseManagementSystem.projection.CourseSummary;
 import com.akib.courseManagementSystem.repository.CourseRepository;
+import com.akib.courseManagementSystem.repository.EnrollmentRepository;
 import com.akib.courseManagementSystem.repository.InstructorRepository;
+import com.akib.courseManagementSystem.repository.SparseFieldRepository;
 import com.akib.courseManagementSystem.repository.StudentRepository;
 import com.akib.courseManagementSystem.service.CourseService;
+import com.akib.courseManagementSystem.service.OutboxService;
+import com.akib.courseManagementSystem.service.ScheduleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime; // Added for deletedAt
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the CourseService interface for managing course-related operations.
@@ -25,12 +68,49 @@ import java.util.stream.Collectors;
  * including conversion between Course entities and CourseDTOs.
  */
 @Service
+@Timed("cms.service")
 @RequiredArgsConstructor
 public class CourseServiceImplementation implements CourseService {
     private static final Logger logger = LoggerFactory.getLogger(CourseServiceImplementation.class);
+    /**
+     * Number of exported courses whose student IDs are read together before the output is flushed.
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    /**
+     * Upper bound for the page size of a course search.
+     */
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    /**
+     * Start date before every course, used as the keyset position of the first page of active courses.
+     */
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    /**
+     * Course attribute path of every CourseDTO field that can be read as a column of the courses table.
+     */
+    private static final Map<String, String> SPARSE_FIELD_PATHS = Map.of(
+            "id", "id",
+            "title", "title",
+            "description", "description",
+            "startDate", "startDate",
+            "endDate", "endDate",
+            "instructorId", "instructor.id",
+            "capacity", "capacity",
+            "enrollmentCount", "enrollmentCount");
+    /**
+     * The CourseDTO field read from the course_student join table instead of the courses table.
+     */
+    private static final String STUDENT_IDS_FIELD = "studentIds";
     private final CourseRepository courseRepository;
     private final InstructorRepository instructorRepository;
     private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<EnrollmentBatcher> enrollmentBatcher;
+    private final ScheduleService scheduleService;
+    private final SparseFieldRepository sparseFieldRepository;
 
     /**
      * Saves a new course to the system.
@@ -39,26 +119,105 @@ public class CourseServiceImplementation implements CourseService {
      * @return The saved CourseDTO.
      */
     @Override
+    @Transactional
     public CourseDTO saveCourse(CourseDTO courseDTO) {
         logger.info("Saving course: {}", courseDTO.getTitle());
         // Convert DTO to entity and save to the database
-        Course course = toEntity(courseDTO);
+        Course course = CourseMapper.toEntity(courseDTO);
         Course savedCourse = courseRepository.save(course);
-        return toDTO(savedCourse);
+        CourseDTO saved = CourseMapper.toDTO(savedCourse);
+        outboxService.record(OutboxEventType.COURSE_CREATED, saved.getId(), CourseMapper.toEventPayload(saved));
+        return saved;
     }
 
     /**
-     * Retrieves a list of all courses.
+     * Retrieves one keyset page of courses.
      *
-     * @return A list of CourseDTOs representing all courses in the system.
+     * @param after Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit The maximum number of courses to return.
+     * @return A page of CourseDTOs and the cursor of the next page.
      */
     @Override
-    public List<CourseDTO> getAllCourses() {
-        logger.info("Fetching all courses");
-        // Fetch all courses and convert to DTOs
-        return courseRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<CourseDTO> getAllCourses(String after, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching courses after cursor: {}, limit: {}", after, pageSize);
+        // Fetch one extra row to find out whether another page exists
+        List<CourseDTO> rows = toDTOs(courseRepository
+                .findSummaryPageAfter(CursorPage.decodeCursor(after), PageRequest.of(0, pageSize + 1)));
+        return CursorPage.of(rows, pageSize, CourseDTO::getId);
+    }
+
+    /**
+     * Retrieves one keyset page of courses, reading only the requested fields.
+     *
+     * @param after  Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of courses to return.
+     * @param fields The CourseDTO fields to read, or null for all of them.
+     * @return A page of CourseDTOs holding the requested fields and the ID, and the cursor of the next page.
+     * @throws InvalidRequestParameterException if a requested field does not exist.
+     */
+    @Override
+    public CursorPage<CourseDTO> getAllCourses(String after, int limit, Set<String> fields) {
+        if (fields == null) {
+            return getAllCourses(after, limit);
+        }
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching courses after cursor: {}, limit: {}, fields: {}", after, pageSize, fields);
+        CursorPage<CourseDTO> page = CursorPage.of(sparseFieldRepository.findPageAfter(Course.class,
+                sparseFieldPaths(fields), CursorPage.decodeCursor(after), pageSize + 1, CourseDTO::new),
+                pageSize, CourseDTO::getId);
+        if (fields.contains(STUDENT_IDS_FIELD)) {
+            attachStudentIds(page.getItems());
+        }
+        return page;
+    }
+
+    /**
+     * Writes every course as newline-delimited JSON to the given stream.
+     * The course summaries are read through a server-side cursor, and the student IDs of every chunk of
+     * {@value #EXPORT_FLUSH_INTERVAL} courses are read with one query over the join table, so no entity
+     * is loaded and neither the result set nor the persistence context grows with the catalog size.
+     *
+     * @param out The stream the NDJSON lines are written to.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCourses(OutputStream out) throws IOException {
+        logger.info("Exporting all courses");
+        long exported = 0;
+        try (Stream<CourseSummary> summaries = courseRepository.streamAllSummaries()) {
+            Iterator<CourseSummary> iterator = summaries.iterator();
+            List<CourseSummary> chunk = new ArrayList<>(EXPORT_FLUSH_INTERVAL);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_FLUSH_INTERVAL || !iterator.hasNext()) {
+                    writeExportChunk(chunk, out);
+                    exported += chunk.size();
+                    chunk.clear();
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        logger.info("Exported {} courses", exported);
+    }
+
+    /**
+     * Writes a chunk of exported courses with their student IDs as NDJSON lines.
+     *
+     * @param chunk The summaries of the courses, ordered by ID.
+     * @param out   The stream the NDJSON lines are written to.
+     * @throws IOException if writing to the stream fails.
+     */
+    private void writeExportChunk(List<CourseSummary> chunk, OutputStream out) throws IOException {
+        Map<Long, List<Long>> studentIds = findStudentIds(
+                chunk.stream().map(CourseSummary::getId).collect(Collectors.toList()));
+        for (CourseSummary summary : chunk) {
+            CourseDTO course = CourseMapper.toDTO(summary, studentIds.getOrDefault(summary.getId(), new ArrayList<>()));
+            out.write(objectMapper.writeValueAsBytes(course));
+            out.write('\n');
+        }
     }
 
     /**
@@ -71,7 +230,55 @@ public class CourseServiceImplementation implements CourseService {
     public Optional<CourseDTO> getCourseById(Long id) {
         logger.info("Fetching course with ID: {}", id);
         // Fetch course by ID and convert to DTO if found
-        return courseRepository.findById(id).map(this::toDTO);
+        return courseRepository.findById(id).map(CourseMapper::toDTO);
+    }
+
+    /**
+     * Retrieves a course by its ID, reading only the requested fields.
+     *
+     * @param id     The ID of the course to retrieve.
+     * @param fields The CourseDTO fields to read, or null for all of them.
+     * @return An Optional containing the CourseDTO if found, or empty if not.
+     * @throws InvalidRequestParameterException if a requested field does not exist.
+     */
+    @Override
+    public Optional<CourseDTO> getCourseById(Long id, Set<String> fields) {
+        if (fields == null) {
+            return getCourseById(id);
+        }
+        logger.info("Fetching course with ID: {}, fields: {}", id, fields);
+        Optional<CourseDTO> course = sparseFieldRepository.findById(Course.class, sparseFieldPaths(fields), id,
+                CourseDTO::new);
+        if (fields.contains(STUDENT_IDS_FIELD)) {
+            course.ifPresent(dto -> attachStudentIds(List.of(dto)));
+        }
+        return course;
+    }
+
+    /**
+     * Computes the ETag of a course from its row version, without loading the course.
+     *
+     * @param id The ID of the course.
+     * @return An Optional containing the quoted ETag, or empty if the course is not found.
+     */
+    @Override
+    public Optional<String> getCourseETag(Long id) {
+        return courseRepository.findVersionById(id)
+                .map(version -> "\"course-" + id + "-" + version + "\"");
+    }
+
+    /**
+     * Computes the ETag of the roster of a course from the course version alone, without reading the roster.
+     * Every enrollment, removal and archival write increments the course version, and so does every update
+     * or deletion of an enrolled student.
+     *
+     * @param courseId The ID of the course.
+     * @return An Optional containing the quoted ETag, or empty if the course is not found.
+     */
+    @Override
+    public Optional<String> getRosterETag(Long courseId) {
+        return courseRepository.findVersionById(courseId)
+                .map(version -> "\"roster-" + courseId + "-" + version + "\"");
     }
 
     /**
@@ -82,6 +289,7 @@ public class CourseServiceImplementation implements CourseService {
      * @return The updated CourseDTO, or null if the course does not exist.
      */
     @Override
+    @Transactional
     public CourseDTO updateCourse(Long id, CourseDTO courseDTO) {
         logger.info("Updating course with ID: {}", id);
         // Find course, update fields, save, and convert to DTO
@@ -90,8 +298,11 @@ public class CourseServiceImplementation implements CourseService {
             course.setDescription(courseDTO.getDescription());
             course.setStartDate(courseDTO.getStartDate());
             course.setEndDate(courseDTO.getEndDate());
+            course.setCapacity(courseDTO.getCapacity());
             Course updatedCourse = courseRepository.save(course);
-            return toDTO(updatedCourse);
+            CourseDTO updated = CourseMapper.toDTO(updatedCourse);
+            outboxService.record(OutboxEventType.COURSE_UPDATED, id, CourseMapper.toEventPayload(updated));
+            return updated;
         }).orElse(null);
     }
 
@@ -101,6 +312,7 @@ public class CourseServiceImplementation implements CourseService {
      * @param id The ID of the course to delete.
      */
     @Override
+    @Transactional
     public void deleteCourse(Long id) {
         // Changed to soft delete by setting deletedAt
         logger.info("Soft deleting course with ID: {}", id);
@@ -108,6 +320,9 @@ public class CourseServiceImplementation implements CourseService {
                 .orElseThrow(() -> new RuntimeException("Course not found with ID: " + id));
         course.setDeletedAt(LocalDateTime.now());
         courseRepository.save(course);
+        outboxService.record(OutboxEventType.COURSE_DELETED, id, Map.of("id", id));
+        // findById no longer matches the course, so it must not be served from the cache either
+        entityCacheEvictor.evictCourse(id);
     }
 
     /**
@@ -119,6 +334,7 @@ public class CourseServiceImplementation implements CourseService {
      * @throws RuntimeException if the course or instructor is not found.
      */
     @Override
+    @Transactional
     public CourseDTO assignInstructorToCourse(Long courseId, Long instructorId) {
         logger.info("Assigning instructor {} to course {}", instructorId, courseId);
         // Fetch course and instructor, validate existence
@@ -129,29 +345,94 @@ public class CourseServiceImplementation implements CourseService {
         // Assign instructor to course and save
         course.setInstructor(instructor);
         Course updatedCourse = courseRepository.save(course);
-        return toDTO(updatedCourse);
+        CourseDTO updated = CourseMapper.toDTO(updatedCourse);
+        outboxService.record(OutboxEventType.COURSE_INSTRUCTOR_ASSIGNED, courseId, CourseMapper.toEventPayload(updated));
+        return updated;
     }
 
     /**
-     * Enrolls a student in a course.
+     * Enrolls a student in a course if a seat is left.
+     * Claims the seat and inserts into course_student with a single statement instead of loading and
+     * re-saving the course roster, so the cost does not grow with the roster size. The write transaction
+     * ends before the response is read, so the course row is locked only for the enrollment itself,
+     * which keeps concurrent enrollments in a popular course from queuing behind roster reads.
+     * With {@code cms.enrollment.batching.enabled} the write is handed to the {@link EnrollmentBatcher},
+     * which commits concurrent enrollments together.
      *
      * @param courseId  The ID of the course.
      * @param studentId The ID of the student to enroll.
      * @return The updated CourseDTO with the enrolled student.
-     * @throws RuntimeException if the course or student is not found.
+     * @throws CourseFullException if every seat of the course is taken.
+     * @throws RuntimeException    if the course or student is not found.
      */
     @Override
     public CourseDTO enrollStudentInCourse(Long courseId, Long studentId) {
-        logger.info("Enrolling student {} in course {}", studentId, courseId);
-        // Fetch course and student, validate existence
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new RuntimeException("Course not found with ID: " + courseId));
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
-        // Add student to course's student list and save
-        course.getStudents().add(student);
-        Course updatedCourse = courseRepository.save(course);
-        return toDTO(updatedCourse);
+        return enrollStudentInCourse(courseId, studentId, ScheduleConflictPolicy.IGNORE).getCourse();
+    }
+
+    /**
+     * Enrolls a student in a course, applying a policy to date overlaps with the student's other courses.
+     * Flagging and rejecting enrollments bypass the {@link EnrollmentBatcher}: their schedule check and their
+     * write share a transaction that locks the student row, so the reported overlaps are exactly the ones the
+     * enrollment was committed against.
+     *
+     * @param courseId       The ID of the course.
+     * @param studentId      The ID of the student to enroll.
+     * @param conflictPolicy What to do when the course overlaps the student's other courses.
+     * @return The updated CourseDTO with the enrolled student and, unless ignored, the overlapping courses.
+     * @throws CourseFullException        if every seat of the course is taken.
+     * @throws ScheduleConflictException if the policy rejects an overlap.
+     * @throws RuntimeException           if the course or student is not found.
+     */
+    @Override
+    public ScheduledEnrollmentDTO enrollStudentInCourse(Long courseId, Long studentId,
+                                                        ScheduleConflictPolicy conflictPolicy) {
+        logger.info("Enrolling student {} in course {} with schedule conflict policy {}", studentId, courseId, conflictPolicy);
+        EnrollmentBatcher batcher = enrollmentBatcher.getIfAvailable();
+        EnrollmentStatus status;
+        List<Long> conflicts = List.of();
+        if (conflictPolicy != ScheduleConflictPolicy.IGNORE) {
+            ScheduledEnrollment enrollment = transactionTemplate.execute(
+                    tx -> enrollCheckingSchedule(courseId, studentId, conflictPolicy));
+            status = enrollment.status();
+            conflicts = enrollment.conflicts();
+        } else if (batcher != null) {
+            status = awaitBatched(batcher.enroll(courseId, studentId));
+        } else {
+            status = transactionTemplate.execute(tx -> enrollDirectly(courseId, studentId));
+        }
+        switch (status) {
+            case COURSE_NOT_FOUND -> throw new RuntimeException("Course not found with ID: " + courseId);
+            case STUDENT_NOT_FOUND -> throw new RuntimeException("Student not found with ID: " + studentId);
+            case COURSE_FULL -> throw new CourseFullException(courseId);
+            case ALREADY_ENROLLED -> logger.info("Student {} is already enrolled in course {}", studentId, courseId);
+            default -> {
+            }
+        }
+        return new ScheduledEnrollmentDTO(getCourseSummary(courseId), conflicts);
+    }
+
+    /**
+     * Removes a student from a course with a single delete on course_student.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student to remove.
+     * @throws RuntimeException if the course is not found.
+     */
+    @Override
+    @Transactional
+    public void unenrollStudentFromCourse(Long courseId, Long studentId) {
+        logger.info("Unenrolling student {} from course {}", studentId, courseId);
+        if (!courseRepository.existsActiveById(courseId)) {
+            throw new RuntimeException("Course not found with ID: " + courseId);
+        }
+        if (enrollmentRepository.delete(courseId, studentId)) {
+            entityCacheEvictor.evictCourses(List.of(courseId));
+            outboxService.record(OutboxEventType.STUDENT_UNENROLLED, courseId,
+                    Map.of("courseId", courseId, "studentId", studentId));
+        } else {
+            logger.info("Student {} was not enrolled in course {}", studentId, courseId);
+        }
     }
 
     /**
@@ -163,73 +444,336 @@ public class CourseServiceImplementation implements CourseService {
     @Override
     public List<CourseDTO> getCoursesByInstructor(Long instructorId) {
         logger.info("Fetching courses for instructor ID: {}", instructorId);
-        // Fetch courses by instructor ID and convert to DTOs
-        return courseRepository.findByInstructorId(instructorId).stream()
-                .map(this::toDTO)
+        // Fetch course summaries by instructor ID and attach their students in one extra query
+        return toDTOs(courseRepository.findSummariesByInstructorId(instructorId));
+    }
+
+    /**
+     * Retrieves the courses taught by a specific instructor, filtered and sorted on the course rows.
+     * Without student IDs this is a single query that never reads the course_student join table.
+     *
+     * @param instructorId    The ID of the instructor.
+     * @param minEnrollment   The minimum number of enrolled students a course must have.
+     * @param sortBy          The field to sort the courses by.
+     * @param direction       The sort direction.
+     * @param includeStudents Whether to fill in the student IDs of each course.
+     * @return A list of CourseDTOs in the requested order.
+     */
+    @Override
+    public List<CourseDTO> getCoursesByInstructor(Long instructorId, int minEnrollment, CourseSortField sortBy,
+                                                  Sort.Direction direction, boolean includeStudents) {
+        logger.info("Fetching courses for instructor ID: {} with at least {} students, sorted by {} {}",
+                instructorId, minEnrollment, sortBy, direction);
+        // Ties are broken by ID so that the order is stable
+        Sort sort = Sort.by(direction, sortBy.getProperty()).and(Sort.by(CourseSortField.ID.getProperty()));
+        List<CourseSummary> summaries = courseRepository.findSummariesByInstructorId(instructorId, minEnrollment, sort);
+        if (includeStudents) {
+            return toDTOs(summaries);
+        }
+        return summaries.stream()
+                .map(summary -> CourseMapper.toDTO(summary, null))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Retrieves all students enrolled in a specific course.
+     * Retrieves one keyset page of the live courses that are active, start or end within a window of dates.
+     * Starting and ending windows are single range scans over the date indexes. Active windows read the
+     * matching IDs from the date range index first and load the summaries of the page afterwards.
      *
-     * @param courseId The ID of the course.
-     * @return A list of StudentDTOs representing the students enrolled in the course.
+     * @param window The relation of the courses to the window.
+     * @param from   The first day of the window, inclusive.
+     * @param to     The last day of the window, inclusive.
+     * @param after  Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit  The maximum number of courses to return.
+     * @return A page of CourseDTOs without student IDs and the cursor of the next page.
+     * @throws InvalidRequestParameterException if the cursor is malformed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDTO> getCoursesInWindow(CourseDateWindow window, LocalDate from, LocalDate to,
+                                                    String after, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching courses {} between {} and {} after cursor: {}, limit: {}",
+                window, from, to, after, pageSize);
+        if (from.isAfter(to)) {
+            return new CursorPage<>(List.of(), null, pageSize);
+        }
+        // The cursor holds "id:date" of the last course; a first page starts before every date of the window
+        LocalDate afterDate = window == CourseDateWindow.ACTIVE ? EARLIEST_DATE : from;
+        long afterId = 0;
+        String key = CursorPage.decodeKeyCursor(after);
+        if (key != null) {
+            int separator = key.indexOf(':');
+            try {
+                afterId = Long.parseLong(key.substring(0, separator));
+                afterDate = LocalDate.parse(key.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestParameterException("Invalid cursor: " + after, e);
+            }
+        }
+        // Fetch one extra row to find out whether another page exists
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+        List<CourseSummary> summaries = switch (window) {
+            case ACTIVE -> findSummariesInOrder(
+                    courseRepository.findActiveIdsAfter(from, to, afterDate, afterId, pageSize + 1));
+            case STARTING -> courseRepository.findSummariesStartingAfter(to, afterDate, afterId, firstRows);
+            case ENDING -> courseRepository.findSummariesEndingAfter(to, afterDate, afterId, firstRows);
+        };
+        List<CourseDTO> rows = summaries.stream()
+                .map(summary -> CourseMapper.toDTO(summary, null))
+                .collect(Collectors.toList());
+        return CursorPage.ofKeys(rows, pageSize, course -> course.getId() + ":"
+                + (window == CourseDateWindow.ENDING ? course.getEndDate() : course.getStartDate()));
+    }
+
+    /**
+     * Searches the live courses through the full-text index and returns one page, best match first.
+     * The ranked IDs are read from the index first; only the courses of the page are loaded afterwards.
+     *
+     * @param query The search text, in web search syntax.
+     * @param page  The zero-based page number.
+     * @param size  The number of courses per page, at most 100.
+     * @return A page of the matching CourseDTOs, without student IDs.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseDTO> searchCourses(String query, int page, int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE)));
+        logger.info("Searching courses for: {}, page: {}, size: {}", query, pageable.getPageNumber(), pageable.getPageSize());
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
+        }
+        Page<Long> ids = courseRepository.searchIds(query, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        // Keep the rank order of the IDs
+        List<CourseDTO> courses = findSummariesInOrder(ids.getContent()).stream()
+                .map(summary -> CourseMapper.toDTO(summary, null))
+                .collect(Collectors.toList());
+        return new PageImpl<>(courses, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Retrieves one keyset page of the students enrolled in a specific course.
+     * The page is read with a single query over the join table and the students table that selects only the
+     * DTO columns, so no Course or Student entity is loaded, however large the roster is.
+     *
+     * @param courseId  The ID of the course.
+     * @param after     Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit     The maximum number of students to return.
+     * @param sortBy    The field to sort the students by.
+     * @param direction The sort direction.
+     * @return A page of StudentDTOs and the cursor of the next page.
      * @throws RuntimeException if the course is not found.
+     * @throws InvalidRequestParameterException if the cursor is malformed.
      */
     @Override
-    public List<StudentDTO> getStudentsInCourse(Long courseId) {
-        logger.info("Fetching students for course ID: {}", courseId);
-        // Fetch course, validate existence, and convert its students to DTOs
-        Course course = courseRepository.findById(courseId)
+    public CursorPage<StudentDTO> getStudentsInCourse(Long courseId, String after, int limit, RosterSortField sortBy,
+                                                      Sort.Direction direction) {
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching students for course ID: {} after cursor: {}, limit: {}, sorted by {} {}",
+                courseId, after, pageSize, sortBy, direction);
+        if (!courseRepository.existsActiveById(courseId)) {
+            throw new RuntimeException("Course not found with ID: " + courseId);
+        }
+        // The cursor holds "id" when sorted by ID, and "id:value" of the sort column otherwise
+        String key = CursorPage.decodeKeyCursor(after);
+        Long afterId = null;
+        String afterValue = null;
+        if (key != null) {
+            int separator = key.indexOf(':');
+            if (separator < 0 && sortBy != RosterSortField.ID) {
+                throw new InvalidRequestParameterException("Invalid cursor: " + after);
+            }
+            try {
+                afterId = Long.parseLong(separator < 0 ? key : key.substring(0, separator));
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestParameterException("Invalid cursor: " + after, e);
+            }
+            afterValue = separator < 0 ? null : key.substring(separator + 1);
+        }
+        // Fetch one extra row to find out whether another page exists
+        List<StudentDTO> rows = enrollmentRepository.findRosterPage(
+                courseId, sortBy, direction, afterId, afterValue, pageSize + 1);
+        return CursorPage.ofKeys(rows, pageSize, student -> switch (sortBy) {
+            case ID -> String.valueOf(student.getId());
+            case NAME -> student.getId() + ":" + student.getName();
+            case EMAIL -> student.getId() + ":" + student.getEmail();
+        });
+    }
+
+    /**
+     * Enrolls a student in its own transaction, which the caller must have started.
+     *
+     * @param courseId  The ID of the course.
+     * @param studentId The ID of the student to enroll.
+     * @return The outcome of the enrollment.
+     */
+    private EnrollmentStatus enrollDirectly(Long courseId, Long studentId) {
+        // Validate existence without loading the course or the student
+        if (!courseRepository.existsActiveById(courseId)) {
+            return EnrollmentStatus.COURSE_NOT_FOUND;
+        }
+        if (!studentRepository.existsActiveById(studentId)) {
+            return EnrollmentStatus.STUDENT_NOT_FOUND;
+        }
+        EnrollmentStatus status = enrollmentRepository.enroll(courseId, studentId);
+        if (status == EnrollmentStatus.ENROLLED) {
+            entityCacheEvictor.evictCourses(List.of(courseId));
+            outboxService.record(OutboxEventType.STUDENT_ENROLLED, courseId,
+                    Map.of("courseId", courseId, "studentId", studentId));
+        }
+        return status;
+    }
+
+    /**
+     * Enrolls a student after checking the course against the student's courses, in a transaction the caller
+     * must have started. The student row stays locked until commit, so the schedule cannot change between
+     * the check and the enrollment.
+     *
+     * @param courseId       The ID of the course.
+     * @param studentId      The ID of the student to enroll.
+     * @param conflictPolicy FLAG to enroll despite overlaps, REJECT to refuse them.
+     * @return The outcome of the enrollment and the overlapping courses found under the lock.
+     * @throws ScheduleConflictException if the policy is REJECT and the course overlaps a course of the student.
+     */
+    private ScheduledEnrollment enrollCheckingSchedule(Long courseId, Long studentId,
+                                                       ScheduleConflictPolicy conflictPolicy) {
+        if (!courseRepository.existsActiveById(courseId)) {
+            return new ScheduledEnrollment(EnrollmentStatus.COURSE_NOT_FOUND, List.of());
+        }
+        if (!enrollmentRepository.lockStudent(studentId)) {
+            return new ScheduledEnrollment(EnrollmentStatus.STUDENT_NOT_FOUND, List.of());
+        }
+        List<Long> conflicts = scheduleService.findConflicts(studentId, courseId);
+        if (!conflicts.isEmpty() && conflictPolicy == ScheduleConflictPolicy.REJECT) {
+            throw new ScheduleConflictException(courseId, conflicts);
+        }
+        return new ScheduledEnrollment(enrollDirectly(courseId, studentId), conflicts);
+    }
+
+    /**
+     * Outcome of an enrollment checked against the student's schedule.
+     *
+     * @param status    What happened to the enrollment.
+     * @param conflicts The IDs of the overlapping courses of the student.
+     */
+    private record ScheduledEnrollment(EnrollmentStatus status, List<Long> conflicts) {
+    }
+
+    /**
+     * Loads the summaries of the given courses in the order of the IDs.
+     * A course deleted since its ID was read is left out.
+     *
+     * @param ids The IDs of the courses, in the order to keep.
+     * @return The summaries of the live courses among them.
+     */
+    private List<CourseSummary> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CourseSummary> summaries = courseRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(CourseSummary::getId, summary -> summary));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Waits for the batch of an enrollment to be committed.
+     * The future is bounded by {@code cms.enrollment.batching.timeout}, so a stuck batch fails the request
+     * instead of blocking it.
+     *
+     * @param result The future of the enrollment returned by the batcher.
+     * @return The outcome of the enrollment.
+     * @throws RuntimeException the exception the batch failed with, unwrapped, or if the batch did not commit in time.
+     */
+    private static EnrollmentStatus awaitBatched(CompletableFuture<EnrollmentStatus> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("Enrollment batch did not commit in time", e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a single course through the projection path.
+     *
+     * @param courseId The ID of the course.
+     * @return The CourseDTO of the course.
+     * @throws RuntimeException if the course is not found.
+     */
+    private CourseDTO getCourseSummary(Long courseId) {
+        CourseSummary summary = courseRepository.findSummaryById(courseId)
                 .orElseThrow(() -> new RuntimeException("Course not found with ID: " + courseId));
-        return course.getStudents().stream()
-                .map(student -> {
-                    StudentDTO dto = new StudentDTO();
-                    dto.setId(student.getId());
-                    dto.setName(student.getName());
-                    dto.setEmail(student.getEmail());
-                    return dto;
-                })
+        return toDTOs(List.of(summary)).get(0);
+    }
+
+    /**
+     * Converts course summaries to CourseDTOs.
+     * The student IDs of all courses are read with a single query over the join table,
+     * so building a listing costs two statements regardless of the number of courses.
+     *
+     * @param summaries The course summaries to convert.
+     * @return The corresponding CourseDTOs, in the same order.
+     */
+    private List<CourseDTO> toDTOs(List<CourseSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, List<Long>> studentIds = findStudentIds(
+                summaries.stream().map(CourseSummary::getId).collect(Collectors.toList()));
+        return summaries.stream()
+                .map(summary -> CourseMapper.toDTO(summary, studentIds.getOrDefault(summary.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * Converts a Course entity to a CourseDTO.
+     * Maps the requested CourseDTO fields to the course columns to read.
+     * The student IDs are not a column of the courses table and are left to {@link #attachStudentIds(List)}.
+     *
+     * @param fields The requested fields.
+     * @return The fields to read and their Course attribute paths.
+     * @throws InvalidRequestParameterException if a requested field does not exist.
+     */
+    private static Map<String, String> sparseFieldPaths(Set<String> fields) {
+        Set<String> columns = new LinkedHashSet<>(fields);
+        columns.remove(STUDENT_IDS_FIELD);
+        return SparseFields.select(columns, SPARSE_FIELD_PATHS);
+    }
+
+    /**
+     * Fills in the student IDs of the given courses with a single query over the join table.
      *
-     * @param course The Course entity to convert.
-     * @return The corresponding CourseDTO with instructor and student IDs.
+     * @param courses The courses, each with its ID set.
      */
-    private CourseDTO toDTO(Course course) {
-        CourseDTO dto = new CourseDTO();
-        dto.setId(course.getId());
-        dto.setTitle(course.getTitle());
-        dto.setDescription(course.getDescription());
-        dto.setStartDate(course.getStartDate());
-        dto.setEndDate(course.getEndDate());
-        // Set instructor ID if instructor exists
-        if (course.getInstructor() != null) {
-            dto.setInstructorId(course.getInstructor().getId());
+    private void attachStudentIds(List<CourseDTO> courses) {
+        if (courses.isEmpty()) {
+            return;
         }
-        // Set list of student IDs
-        dto.setStudentIds(course.getStudents().stream()
-                .map(Student::getId)
-                .collect(Collectors.toList()));
-        return dto;
+        Map<Long, List<Long>> studentIds = findStudentIds(
+                courses.stream().map(CourseDTO::getId).collect(Collectors.toList()));
+        courses.forEach(course -> course.setStudentIds(studentIds.getOrDefault(course.getId(), new ArrayList<>())));
     }
 
     /**
-     * Converts a CourseDTO to a Course entity.
+     * Reads the student IDs of the given courses, grouped by course.
      *
-     * @param courseDTO The CourseDTO to convert.
-     * @return The corresponding Course entity.
+     * @param courseIds The IDs of the courses.
+     * @return The student IDs of each course that has students.
      */
-    private Course toEntity(CourseDTO courseDTO) {
-        Course course = new Course();
-        course.setId(courseDTO.getId());
-        course.setTitle(courseDTO.getTitle());
-        course.setDescription(courseDTO.getDescription());
-        course.setStartDate(courseDTO.getStartDate());
-        course.setEndDate(courseDTO.getEndDate());
-        return course;
+    private Map<Long, List<Long>> findStudentIds(Collection<Long> courseIds) {
+        return courseRepository.findStudentIdsByCourseIds(courseIds).stream()
+                .collect(Collectors.groupingBy(CourseStudentId::getCourseId,
+                        Collectors.mapping(CourseStudentId::getStudentId, Collectors.toList())));
     }
+
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.cache.EntityCacheEvictor;
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentResultDTO;
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.repository.EnrollmentRepository;
+import com.akib.courseManagementSystem.service.EnrollmentService;
+import com.akib.courseManagementSystem.service.OutboxService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the EnrollmentService interface.
+ * Validates all course and student IDs of a request with set-based queries and writes
+ * the new enrollments with batched inserts into course_student, all in a single transaction.
+ * The referenced courses are locked in ID order while their free seats are handed out in request
+ * order; pairs beyond the capacity of a course are reported as COURSE_FULL.
+ */
+@Service
+@Timed("cms.service")
+@RequiredArgsConstructor
+public class EnrollmentServiceImplementation implements EnrollmentService {
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentServiceImplementation.class);
+    private final EnrollmentRepository enrollmentRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final OutboxService outboxService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<EnrollmentResultDTO> enrollStudents(Long courseId, List<Long> studentIds) {
+        return enrollPairs(studentIds.stream()
+                .map(studentId -> new EnrollmentRequestDTO(courseId, studentId))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<EnrollmentResultDTO> enrollPairs(List<EnrollmentRequestDTO> pairs) {
+        logger.info("Bulk enrolling {} course/student pairs", pairs.size());
+        // Validate every referenced course and student with one query each; the courses stay locked,
+        // so their free seats cannot be taken by concurrent enrollments until this transaction ends
+        Map<Long, Integer> freeSeats = enrollmentRepository.lockFreeSeats(
+                pairs.stream().map(EnrollmentRequestDTO::getCourseId).collect(Collectors.toSet()));
+        Set<Long> activeCourseIds = freeSeats.keySet();
+        Set<Long> activeStudentIds = enrollmentRepository.findActiveStudentIds(
+                pairs.stream().map(EnrollmentRequestDTO::getStudentId).collect(Collectors.toSet()));
+        Set<EnrollmentRequestDTO> valid = pairs.stream()
+                .filter(pair -> activeCourseIds.contains(pair.getCourseId())
+                        && activeStudentIds.contains(pair.getStudentId()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<EnrollmentRequestDTO> existing = enrollmentRepository.findExisting(valid);
+
+        // Seats are given out in request order
+        List<EnrollmentRequestDTO> toInsert = new ArrayList<>();
+        Set<EnrollmentRequestDTO> full = new HashSet<>();
+        for (EnrollmentRequestDTO pair : valid) {
+            if (existing.contains(pair)) {
+                continue;
+            }
+            if (freeSeats.merge(pair.getCourseId(), -1, Integer::sum) >= 0) {
+                toInsert.add(pair);
+            } else {
+                full.add(pair);
+            }
+        }
+        List<EnrollmentRequestDTO> inserted = enrollmentRepository.batchInsert(toInsert);
+        Set<Long> changedCourseIds = inserted.stream()
+                .map(EnrollmentRequestDTO::getCourseId)
+                .collect(Collectors.toSet());
+        entityCacheEvictor.evictCourses(changedCourseIds);
+        outboxService.recordAll(OutboxEventType.STUDENT_ENROLLED, inserted, EnrollmentRequestDTO::getCourseId);
+
+        // Report in request order; a pair repeated within the request counts as already enrolled
+        Set<EnrollmentRequestDTO> enrolled = new HashSet<>(inserted);
+        List<EnrollmentResultDTO> results = new ArrayList<>(pairs.size());
+        for (EnrollmentRequestDTO pair : pairs) {
+            results.add(new EnrollmentResultDTO(pair.getCourseId(), pair.getStudentId(), statusOf(pair,
+                    activeCourseIds, activeStudentIds, enrolled, full)));
+        }
+        logger.info("Bulk enrollment inserted {} of {} pairs", inserted.size(), pairs.size());
+        return results;
+    }
+
+    private static EnrollmentStatus statusOf(EnrollmentRequestDTO pair, Set<Long> activeCourseIds,
+                                             Set<Long> activeStudentIds, Set<EnrollmentRequestDTO> enrolled,
+                                             Set<EnrollmentRequestDTO> full) {
+        if (!activeCourseIds.contains(pair.getCourseId())) {
+            return EnrollmentStatus.COURSE_NOT_FOUND;
+        }
+        if (!activeStudentIds.contains(pair.getStudentId())) {
+            return EnrollmentStatus.STUDENT_NOT_FOUND;
+        }
+        // Remove so that a second occurrence of the same pair is reported as already enrolled
+        if (enrolled.remove(pair)) {
+            return EnrollmentStatus.ENROLLED;
+        }
+        return full.contains(pair) ? EnrollmentStatus.COURSE_FULL : EnrollmentStatus.ALREADY_ENROLLED;
+    }
+}
@@ -0,0 +1,325 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.dto.ImportSummaryDTO;
+import com.akib.courseManagementSystem.dto.RejectedRowDTO;
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.enums.ImportEntityType;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.mapper.CourseMapper;
+import com.akib.courseManagementSystem.repository.CourseRepository;
+import com.akib.courseManagementSystem.repository.InstructorRepository;
+import com.akib.courseManagementSystem.repository.StudentRepository;
+import com.akib.courseManagementSystem.search.PeopleTypeahead;
+import com.akib.courseManagementSystem.service.ImportService;
+import com.akib.courseManagementSystem.service.OutboxService;
+import com.akib.courseManagementSystem.util.CsvReader;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ImportService interface.
+ * Reads the CSV input one record at a time and stores it in chunks of {@code cms.import.chunk-size}
+ * rows, each chunk in its own transaction. Rows are validated before they are written: duplicate
+ * emails (within the file and against the UNIQUE constraints) and unknown instructors are checked
+ * with one set-based query per chunk, and the remaining rows are inserted as JDBC batches using
+ * pooled sequence IDs.
+ */
+@Service
+@Timed("cms.service")
+public class ImportServiceImplementation implements ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportServiceImplementation.class);
+    private final StudentRepository studentRepository;
+    private final InstructorRepository instructorRepository;
+    private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PeopleTypeahead peopleTypeahead;
+    private final OutboxService outboxService;
+    private final int chunkSize;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param studentRepository    the repository used to store students.
+     * @param instructorRepository the repository used to store instructors.
+     * @param courseRepository     the repository used to store courses.
+     * @param entityManager        the entity manager flushed and cleared after every chunk.
+     * @param transactionTemplate  the template running one transaction per chunk.
+     * @param peopleTypeahead      the typeahead index that receives the committed students and instructors.
+     * @param outboxService        the outbox recording a COURSE_CREATED event per imported course.
+     * @param chunkSize            the number of rows committed per transaction.
+     */
+    public ImportServiceImplementation(StudentRepository studentRepository,
+                                       InstructorRepository instructorRepository,
+                                       CourseRepository courseRepository,
+                                       EntityManager entityManager,
+                                       TransactionTemplate transactionTemplate,
+                                       PeopleTypeahead peopleTypeahead,
+                                       OutboxService outboxService,
+                                       @Value("${cms.import.chunk-size:1000}") int chunkSize) {
+        this.studentRepository = studentRepository;
+        this.instructorRepository = instructorRepository;
+        this.courseRepository = courseRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.peopleTypeahead = peopleTypeahead;
+        this.outboxService = outboxService;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImportSummaryDTO importCsv(ImportEntityType type, InputStream input) throws IOException {
+        logger.info("Importing {} from CSV in chunks of {}", type.getPath(), chunkSize);
+        ImportSummaryDTO summary = new ImportSummaryDTO();
+        summary.setEntity(type.getPath());
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                return summary;
+            }
+            ImportContext context = new ImportContext(type, columnIndex(header), summary);
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                summary.setTotalRows(summary.getTotalRows() + 1);
+                chunk.add(new CsvRow(reader.getRecordLine(), record));
+                if (chunk.size() == chunkSize) {
+                    importChunk(context, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(context, chunk);
+            }
+        }
+        logger.info("Imported {} of {} {} rows, rejected {}", summary.getImportedRows(), summary.getTotalRows(),
+                type.getPath(), summary.getRejectedRows().size());
+        return summary;
+    }
+
+    /**
+     * Validates and stores one chunk in its own transaction.
+     * If the database still rejects the chunk, for example because a concurrent writer took one of
+     * its emails, the whole chunk is rolled back and reported as rejected.
+     */
+    private void importChunk(ImportContext context, List<CsvRow> chunk) {
+        try {
+            int imported = transactionTemplate.execute(status -> {
+                int stored = switch (context.type) {
+                    case STUDENTS -> importStudents(context, chunk);
+                    case INSTRUCTORS -> importInstructors(context, chunk);
+                    case COURSES -> importCourses(context, chunk);
+                };
+                // Send the remaining batches and release the stored entities before the next chunk
+                entityManager.flush();
+                entityManager.clear();
+                return stored;
+            });
+            context.summary.setImportedRows(context.summary.getImportedRows() + imported);
+        } catch (RuntimeException e) {
+            logger.warn("Rejecting CSV chunk starting on line {}: {}", chunk.get(0).line(), e.getMessage());
+            // Emails of a rolled back chunk were never stored, so later rows may still use them
+            context.seenKeys.removeAll(context.chunkKeys);
+            context.rejected.clear();
+            for (CsvRow row : chunk) {
+                context.rejected.add(new RejectedRowDTO(row.line(), "Chunk rolled back: " + e.getMessage()));
+            }
+        }
+        context.summary.getRejectedRows().addAll(context.rejected);
+        context.rejected.clear();
+        context.chunkKeys.clear();
+    }
+
+    private int importStudents(ImportContext context, List<CsvRow> chunk) {
+        Map<CsvRow, String> emails = validPeople(context, chunk);
+        Set<String> taken = new HashSet<>(studentRepository.findExistingEmails(emails.values()));
+        List<Student> students = new ArrayList<>();
+        for (Map.Entry<CsvRow, String> entry : emails.entrySet()) {
+            if (taken.contains(entry.getValue())) {
+                context.reject(entry.getKey(), "Email already exists: " + entry.getValue());
+                continue;
+            }
+            Student student = new Student();
+            student.setName(context.value(entry.getKey(), "name"));
+            student.setEmail(entry.getValue());
+            students.add(student);
+        }
+        studentRepository.saveAll(students);
+        for (Student student : students) {
+            peopleTypeahead.studentSaved(student.getId(), student.getName(), student.getEmail());
+        }
+        return students.size();
+    }
+
+    private int importInstructors(ImportContext context, List<CsvRow> chunk) {
+        Map<CsvRow, String> emails = validPeople(context, chunk);
+        Set<String> taken = new HashSet<>(instructorRepository.findExistingEmails(emails.values()));
+        List<Instructor> instructors = new ArrayList<>();
+        for (Map.Entry<CsvRow, String> entry : emails.entrySet()) {
+            if (taken.contains(entry.getValue())) {
+                context.reject(entry.getKey(), "Email already exists: " + entry.getValue());
+                continue;
+            }
+            Instructor instructor = new Instructor();
+            instructor.setName(context.value(entry.getKey(), "name"));
+            instructor.setEmail(entry.getValue());
+            instructors.add(instructor);
+        }
+        instructorRepository.saveAll(instructors);
+        for (Instructor instructor : instructors) {
+            peopleTypeahead.instructorSaved(instructor.getId(), instructor.getName(), instructor.getEmail());
+        }
+        return instructors.size();
+    }
+
+    private int importCourses(ImportContext context, List<CsvRow> chunk) {
+        Map<CsvRow, Course> parsed = new LinkedHashMap<>();
+        Map<CsvRow, Long> instructorIds = new HashMap<>();
+        for (CsvRow row : chunk) {
+            String title = context.value(row, "title");
+            if (title.isBlank()) {
+                context.reject(row, "Missing title");
+                continue;
+            }
+            try {
+                Course course = new Course();
+                course.setTitle(title);
+                course.setDescription(context.value(row, "description"));
+                course.setStartDate(parseDate(context.value(row, "start_date")));
+                course.setEndDate(parseDate(context.value(row, "end_date")));
+                String instructorId = context.value(row, "instructor_id");
+                if (!instructorId.isBlank()) {
+                    instructorIds.put(row, Long.parseLong(instructorId.trim()));
+                }
+                parsed.put(row, course);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                context.reject(row, "Invalid value: " + e.getMessage());
+            }
+        }
+        Set<Long> activeInstructors = instructorIds.isEmpty() ? Set.of()
+                : new HashSet<>(instructorRepository.findActiveIds(new HashSet<>(instructorIds.values())));
+        List<Course> courses = new ArrayList<>();
+        for (Map.Entry<CsvRow, Course> entry : parsed.entrySet()) {
+            Long instructorId = instructorIds.get(entry.getKey());
+            if (instructorId != null) {
+                if (!activeInstructors.contains(instructorId)) {
+                    context.reject(entry.getKey(), "Instructor not found with ID: " + instructorId);
+                    continue;
+                }
+                // A reference is enough to write the foreign key; the instructor is not loaded
+                entry.getValue().setInstructor(instructorRepository.getReferenceById(instructorId));
+            }
+            courses.add(entry.getValue());
+        }
+        courseRepository.saveAll(courses);
+        // Bulk-loaded courses are announced like courses created one at a time, in the chunk's transaction
+        outboxService.recordAll(OutboxEventType.COURSE_CREATED,
+                courses.stream().map(course -> CourseMapper.toEventPayload(CourseMapper.toDTO(course))).toList(),
+                payload -> (Long) payload.get("id"));
+        return courses.size();
+    }
+
+    /**
+     * Validates the name and email of student or instructor rows and drops emails repeated within the input.
+     *
+     * @return The valid rows with their email, in input order.
+     */
+    private Map<CsvRow, String> validPeople(ImportContext context, List<CsvRow> chunk) {
+        Map<CsvRow, String> emails = new LinkedHashMap<>();
+        for (CsvRow row : chunk) {
+            String name = context.value(row, "name");
+            String email = context.value(row, "email").trim();
+            if (name.isBlank() || email.isBlank()) {
+                context.reject(row, "Missing name or email");
+            } else if (!context.seenKeys.add(email)) {
+                context.reject(row, "Duplicate email in input: " + email);
+            } else {
+                context.chunkKeys.add(email);
+                emails.put(row, email);
+            }
+        }
+        return emails;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value.isBlank() ? null : LocalDate.parse(value.trim());
+    }
+
+    private static Map<String, Integer> columnIndex(List<String> header) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        return index;
+    }
+
+    /**
+     * One CSV record with the line it starts on.
+     */
+    private record CsvRow(long line, List<String> fields) {
+    }
+
+    /**
+     * State carried across the chunks of one import.
+     */
+    private static final class ImportContext {
+        private final ImportEntityType type;
+        private final Map<String, Integer> columns;
+        private final ImportSummaryDTO summary;
+        private final Set<String> seenKeys = new HashSet<>();
+        private final List<String> chunkKeys = new ArrayList<>();
+        private final List<RejectedRowDTO> rejected = new ArrayList<>();
+
+        private ImportContext(ImportEntityType type, Map<String, Integer> columns, ImportSummaryDTO summary) {
+            this.type = type;
+            this.columns = columns;
+            this.summary = summary;
+            List<String> missing = type.getRequiredColumns().stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+            }
+        }
+
+        private String value(CsvRow row, String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= row.fields().size() ? "" : row.fields().get(index);
+        }
+
+        private void reject(CsvRow row, String reason) {
+            rejected.add(new RejectedRowDTO(row.line(), reason));
+        }
+    }
+}
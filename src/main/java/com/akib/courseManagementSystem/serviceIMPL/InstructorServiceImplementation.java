@@ -1,18 +1,32 @@
 package com.akib.courseManagementSystem.serviceIMPL;
 
+import com.akib.courseManagementSystem.cache.EntityCacheEvictor;
 import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
 import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.fields.SparseFields;
+import com.akib.courseManagementSystem.mapper.InstructorMapper;
 import com.akib.courseManagementSystem.repository.InstructorRepository;
+import com.akib.courseManagementSystem.repository.SparseFieldRepository;
+import com.akib.courseManagementSystem.search.PeopleTypeahead;
 import com.akib.courseManagementSystem.service.InstructorService;
+import com.akib.courseManagementSystem.service.OutboxService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -21,18 +35,44 @@ import java.util.stream.Collectors;
  * creating, retrieving, updating, and deleting instructor records.
  */
 @Service
+@Timed("cms.service")
 public class InstructorServiceImplementation implements InstructorService {
 
     private static final Logger logger = LoggerFactory.getLogger(InstructorServiceImplementation.class);
+    /**
+     * Upper bound for the number of typeahead matches a client may request.
+     */
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+    /**
+     * Instructor attribute path of every InstructorDTO field.
+     */
+    private static final Map<String, String> SPARSE_FIELD_PATHS = Map.of("id", "id", "name", "name", "email", "email");
     private final InstructorRepository instructorRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final OutboxService outboxService;
+    private final PeopleTypeahead peopleTypeahead;
+    private final SparseFieldRepository sparseFieldRepository;
 
     /**
-     * Constructor for dependency injection of InstructorRepository.
+     * Constructor for dependency injection of InstructorRepository, EntityCacheEvictor, OutboxService, PeopleTypeahead
+     * and SparseFieldRepository.
      *
-     * @param instructorRepository the repository used for instructor persistence operations.
+     * @param instructorRepository  the repository used for instructor persistence operations.
+     * @param entityCacheEvictor    the evictor used to drop deleted instructors from the second-level cache.
+     * @param outboxService         the service recording instructor change events.
+     * @param peopleTypeahead       the typeahead index kept current with every instructor change.
+     * @param sparseFieldRepository the repository reading only the requested instructor fields.
      */
-    public InstructorServiceImplementation(InstructorRepository instructorRepository) {
+    public InstructorServiceImplementation(InstructorRepository instructorRepository,
+                                           EntityCacheEvictor entityCacheEvictor,
+                                           OutboxService outboxService,
+                                           PeopleTypeahead peopleTypeahead,
+                                           SparseFieldRepository sparseFieldRepository) {
         this.instructorRepository = instructorRepository;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.outboxService = outboxService;
+        this.peopleTypeahead = peopleTypeahead;
+        this.sparseFieldRepository = sparseFieldRepository;
     }
 
     /**
@@ -41,11 +81,9 @@ public class InstructorServiceImplementation implements InstructorService {
     @Override
     public InstructorDTO createInstructor(InstructorDTO instructorDTO) {
         logger.info("Creating instructor: {}", instructorDTO.getName());
-        Instructor instructor = new Instructor();
-        instructor.setName(instructorDTO.getName());
-        instructor.setEmail(instructorDTO.getEmail());
-        Instructor savedInstructor = instructorRepository.save(instructor);
-        return toDTO(savedInstructor);
+        Instructor savedInstructor = instructorRepository.save(InstructorMapper.toEntity(instructorDTO));
+        peopleTypeahead.instructorSaved(savedInstructor.getId(), savedInstructor.getName(), savedInstructor.getEmail());
+        return InstructorMapper.toDTO(savedInstructor);
     }
 
     /**
@@ -54,9 +92,23 @@ public class InstructorServiceImplementation implements InstructorService {
     @Override
     public Page<InstructorDTO> getAllInstructors(int page, int size) {
         logger.info("Fetching instructors for page: {}, size: {}", page, size);
-        Pageable pageable = PageRequest.of(page, size);
+        // A stable order makes pages deterministic and lets the live-row id index serve them
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
         Page<Instructor> instructorPage = instructorRepository.findAll(pageable);
-        return instructorPage.map(this::toDTO);
+        return instructorPage.map(InstructorMapper::toDTO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<InstructorDTO> getAllInstructors(int page, int size, Set<String> fields) {
+        if (fields == null) {
+            return getAllInstructors(page, size);
+        }
+        logger.info("Fetching instructors for page: {}, size: {}, fields: {}", page, size, fields);
+        return sparseFieldRepository.findPage(Instructor.class, SparseFields.select(fields, SPARSE_FIELD_PATHS),
+                PageRequest.of(page, size, Sort.by("id")), InstructorDTO::new);
     }
 
     /**
@@ -67,7 +119,30 @@ public class InstructorServiceImplementation implements InstructorService {
         logger.info("Fetching instructor with ID: {}", id);
         Instructor instructor = instructorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Instructor not found with ID: " + id));
-        return toDTO(instructor);
+        return InstructorMapper.toDTO(instructor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InstructorDTO getInstructorById(Long id, Set<String> fields) {
+        if (fields == null) {
+            return getInstructorById(id);
+        }
+        logger.info("Fetching instructor with ID: {}, fields: {}", id, fields);
+        return sparseFieldRepository.findById(Instructor.class, SparseFields.select(fields, SPARSE_FIELD_PATHS), id,
+                        InstructorDTO::new)
+                .orElseThrow(() -> new RuntimeException("Instructor not found with ID: " + id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getInstructorETag(Long id) {
+        return instructorRepository.findVersionById(id)
+                .map(version -> "\"instructor-" + id + "-" + version + "\"");
     }
 
     /**
@@ -81,32 +156,32 @@ public class InstructorServiceImplementation implements InstructorService {
         instructor.setName(instructorDTO.getName());
         instructor.setEmail(instructorDTO.getEmail());
         Instructor updatedInstructor = instructorRepository.save(instructor);
-        return toDTO(updatedInstructor);
+        peopleTypeahead.instructorSaved(id, updatedInstructor.getName(), updatedInstructor.getEmail());
+        return InstructorMapper.toDTO(updatedInstructor);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void deleteInstructor(Long id) {
         logger.info("Soft deleting instructor with ID: {}", id);
         Instructor instructor = instructorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Instructor not found with ID: " + id));
         instructor.setDeletedAt(LocalDateTime.now());
         instructorRepository.save(instructor);
+        outboxService.record(OutboxEventType.INSTRUCTOR_DELETED, id, Map.of("id", id));
+        entityCacheEvictor.evictInstructor(id);
+        peopleTypeahead.instructorRemoved(id);
     }
 
     /**
-     * Converts an Instructor entity to a DTO.
-     *
-     * @param instructor the Instructor entity to convert.
-     * @return the corresponding InstructorDTO.
+     * {@inheritDoc}
      */
-    private InstructorDTO toDTO(Instructor instructor) {
-        InstructorDTO dto = new InstructorDTO();
-        dto.setId(instructor.getId());
-        dto.setName(instructor.getName());
-        dto.setEmail(instructor.getEmail());
-        return dto;
+    @Override
+    public List<TypeaheadHitDTO> searchInstructors(String query, int limit) {
+        logger.debug("Searching instructors for: {}", query);
+        return peopleTypeahead.searchInstructors(query, Math.max(1, Math.min(limit, MAX_TYPEAHEAD_LIMIT)));
     }
 }
@@ -0,0 +1,148 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.dto.OutboxEventDTO;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.outbox.OutboxSink;
+import com.akib.courseManagementSystem.repository.OutboxRepository;
+import com.akib.courseManagementSystem.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the OutboxService interface.
+ * Recording requires an active transaction ({@link Propagation#MANDATORY}), so an event can never be
+ * committed without its change or vice versa. Publishing runs batch by batch in short transactions that
+ * hold a PostgreSQL advisory lock, so only one instance publishes at a time and events leave in ID order.
+ */
+@Service
+public class OutboxServiceImplementation implements OutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxServiceImplementation.class);
+    /**
+     * Number of published events deleted per statement when purging.
+     */
+    private static final int PURGE_BATCH_SIZE = 10_000;
+    private final OutboxRepository outboxRepository;
+    private final List<OutboxSink> sinks;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param outboxRepository    the repository storing the events.
+     * @param sinks               the sinks every event is published to.
+     * @param objectMapper        the mapper used to serialize payloads.
+     * @param transactionTemplate the template running one transaction per published batch.
+     * @param batchSize           the number of events published per batch.
+     * @param retention           how long published events are kept.
+     */
+    public OutboxServiceImplementation(OutboxRepository outboxRepository,
+                                       List<OutboxSink> sinks,
+                                       ObjectMapper objectMapper,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${cms.outbox.batch-size:500}") int batchSize,
+                                       @Value("${cms.outbox.retention:7d}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType type, Long aggregateId, Object payload) {
+        outboxRepository.insert(type, aggregateId, toJson(payload));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void recordAll(OutboxEventType type, Collection<T> payloads, Function<T, Long> aggregateIdOf) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, String>> rows = payloads.stream()
+                .map(payload -> (Map.Entry<Long, String>) new AbstractMap.SimpleImmutableEntry<>(
+                        aggregateIdOf.apply(payload), toJson(payload)))
+                .collect(Collectors.toList());
+        outboxRepository.batchInsert(type, rows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int publishPending() {
+        int published = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                if (!outboxRepository.tryLockRelay()) {
+                    return 0;
+                }
+                List<OutboxEventDTO> events = outboxRepository.findUnpublished(batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                for (OutboxSink sink : sinks) {
+                    sink.publish(events);
+                }
+                outboxRepository.markPublished(events.stream().map(OutboxEventDTO::getId).collect(Collectors.toList()));
+                return events.size();
+            });
+            published += count == null ? 0 : count;
+            if (count == null || count < batchSize) {
+                return published;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        logger.info("Purging outbox events published before {}", cutoff);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = outboxRepository.deletePublishedBefore(cutoff, PURGE_BATCH_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return purged;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload cannot be serialized: " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
+import com.akib.courseManagementSystem.repository.CourseRepository;
+import com.akib.courseManagementSystem.repository.EnrollmentRepository;
+import com.akib.courseManagementSystem.repository.StudentRepository;
+import com.akib.courseManagementSystem.schedule.ScheduleIndex;
+import com.akib.courseManagementSystem.service.ScheduleService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the ScheduleService interface.
+ * A schedule is read with one query and its overlaps are found through a {@link ScheduleIndex} built over it,
+ * so courses are not compared pair by pair. A single enrollment check is one query that reads only the
+ * overlapping courses, since building an index for one lookup would cost more than it saves.
+ * No Course entities are loaded.
+ */
+@Service
+@Timed("cms.service")
+public class ScheduleServiceImplementation implements ScheduleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleServiceImplementation.class);
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+
+    /**
+     * Constructor for dependency injection.
+     *
+     * @param enrollmentRepository the repository reading the courses of a student.
+     * @param courseRepository     the repository used to validate a checked course.
+     * @param studentRepository    the repository used to validate the student.
+     */
+    public ScheduleServiceImplementation(EnrollmentRepository enrollmentRepository,
+                                         CourseRepository courseRepository,
+                                         StudentRepository studentRepository) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RuntimeException if the student is not found.
+     */
+    @Override
+    public List<ScheduleEntryDTO> getSchedule(Long studentId) {
+        logger.info("Fetching schedule of student with ID: {}", studentId);
+        if (!studentRepository.existsActiveById(studentId)) {
+            throw new RuntimeException("Student not found with ID: " + studentId);
+        }
+        List<ScheduleEntryDTO> schedule = enrollmentRepository.findSchedule(studentId);
+        ScheduleIndex index = new ScheduleIndex(schedule);
+        for (ScheduleEntryDTO entry : schedule) {
+            List<Long> conflicts = index.overlapping(entry.getStartDate(), entry.getEndDate());
+            conflicts.remove(entry.getCourseId());
+            entry.setConflictsWith(conflicts);
+        }
+        return schedule;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RuntimeException if the course is not found.
+     */
+    @Override
+    public List<Long> findConflicts(Long studentId, Long courseId) {
+        logger.info("Checking schedule of student {} against course {}", studentId, courseId);
+        List<Long> conflicts = enrollmentRepository.findOverlappingCourseIds(studentId, courseId);
+        // No row also comes back for a missing course; only then is it worth telling the two apart
+        if (conflicts.isEmpty() && !courseRepository.existsActiveById(courseId)) {
+            throw new RuntimeException("Course not found with ID: " + courseId);
+        }
+        return conflicts;
+    }
+}
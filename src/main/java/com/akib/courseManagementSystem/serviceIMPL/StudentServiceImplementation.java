@@ -1,15 +1,32 @@
 package com.akib.courseManagementSystem.serviceIMPL;
 
+import com.akib.courseManagementSystem.cache.EntityCacheEvictor;
+import com.akib.courseManagementSystem.dto.CursorPage;
 import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
 import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.enums.OutboxEventType;
+import com.akib.courseManagementSystem.fields.SparseFields;
+import com.akib.courseManagementSystem.mapper.StudentMapper;
+import com.akib.courseManagementSystem.repository.EnrollmentRepository;
+import com.akib.courseManagementSystem.repository.SparseFieldRepository;
 import com.akib.courseManagementSystem.repository.StudentRepository;
+import com.akib.courseManagementSystem.search.PeopleTypeahead;
+import com.akib.courseManagementSystem.service.OutboxService;
 import com.akib.courseManagementSystem.service.StudentService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -17,18 +34,48 @@ import java.util.stream.Collectors;
  * Handles business logic related to Student operations.
  */
 @Service
+@Timed("cms.service")
 public class StudentServiceImplementation implements StudentService {
 
     private static final Logger logger = LoggerFactory.getLogger(StudentServiceImplementation.class);
+    /**
+     * Upper bound for the number of typeahead matches a client may request.
+     */
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+    /**
+     * Student attribute path of every StudentDTO field.
+     */
+    private static final Map<String, String> SPARSE_FIELD_PATHS = Map.of("id", "id", "name", "name", "email", "email");
     private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final OutboxService outboxService;
+    private final PeopleTypeahead peopleTypeahead;
+    private final SparseFieldRepository sparseFieldRepository;
 
     /**
-     * Constructor for injecting the StudentRepository.
+     * Constructor for injecting the StudentRepository, EnrollmentRepository, EntityCacheEvictor, OutboxService,
+     * PeopleTypeahead and SparseFieldRepository.
      *
-     * @param studentRepository the repository used for student persistence operations
+     * @param studentRepository     the repository used for student persistence operations
+     * @param enrollmentRepository  the repository marking the rosters of a changed student as changed
+     * @param entityCacheEvictor    the evictor used to drop deleted students from the second-level cache
+     * @param outboxService         the service recording student change events
+     * @param peopleTypeahead       the typeahead index kept current with every student change
+     * @param sparseFieldRepository the repository reading only the requested student fields
      */
-    public StudentServiceImplementation(StudentRepository studentRepository) {
+    public StudentServiceImplementation(StudentRepository studentRepository,
+                                        EnrollmentRepository enrollmentRepository,
+                                        EntityCacheEvictor entityCacheEvictor,
+                                        OutboxService outboxService,
+                                        PeopleTypeahead peopleTypeahead,
+                                        SparseFieldRepository sparseFieldRepository) {
         this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.outboxService = outboxService;
+        this.peopleTypeahead = peopleTypeahead;
+        this.sparseFieldRepository = sparseFieldRepository;
     }
 
     /**
@@ -37,22 +84,39 @@ public class StudentServiceImplementation implements StudentService {
     @Override
     public StudentDTO createStudent(StudentDTO studentDTO) {
         logger.info("Creating student: {}", studentDTO.getName());
-        Student student = new Student();
-        student.setName(studentDTO.getName());
-        student.setEmail(studentDTO.getEmail());
-        Student savedStudent = studentRepository.save(student);
-        return toDTO(savedStudent);
+        Student savedStudent = studentRepository.save(StudentMapper.toEntity(studentDTO));
+        peopleTypeahead.studentSaved(savedStudent.getId(), savedStudent.getName(), savedStudent.getEmail());
+        return StudentMapper.toDTO(savedStudent);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<StudentDTO> getAllStudents() {
-        logger.info("Fetching all students");
-        return studentRepository.findAll().stream()
-                .map(this::toDTO)
+    public CursorPage<StudentDTO> getAllStudents(String after, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching students after cursor: {}, limit: {}", after, pageSize);
+        List<StudentDTO> rows = studentRepository
+                .findPageAfter(CursorPage.decodeCursor(after), PageRequest.of(0, pageSize + 1)).stream()
+                .map(StudentMapper::toDTO)
                 .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize, StudentDTO::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPage<StudentDTO> getAllStudents(String after, int limit, Set<String> fields) {
+        if (fields == null) {
+            return getAllStudents(after, limit);
+        }
+        int pageSize = CursorPage.clampLimit(limit);
+        logger.info("Fetching students after cursor: {}, limit: {}, fields: {}", after, pageSize, fields);
+        List<StudentDTO> rows = sparseFieldRepository.findPageAfter(Student.class,
+                SparseFields.select(fields, SPARSE_FIELD_PATHS), CursorPage.decodeCursor(after), pageSize + 1,
+                StudentDTO::new);
+        return CursorPage.of(rows, pageSize, StudentDTO::getId);
     }
 
     /**
@@ -63,21 +127,50 @@ public class StudentServiceImplementation implements StudentService {
         logger.info("Fetching student with ID: {}", id);
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + id));
-        return toDTO(student);
+        return StudentMapper.toDTO(student);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    public StudentDTO getStudentById(Long id, Set<String> fields) {
+        if (fields == null) {
+            return getStudentById(id);
+        }
+        logger.info("Fetching student with ID: {}, fields: {}", id, fields);
+        return sparseFieldRepository.findById(Student.class, SparseFields.select(fields, SPARSE_FIELD_PATHS), id,
+                        StudentDTO::new)
+                .orElseThrow(() -> new RuntimeException("Student not found with ID: " + id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getStudentETag(Long id) {
+        return studentRepository.findVersionById(id)
+                .map(version -> "\"student-" + id + "-" + version + "\"");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
     public StudentDTO updateStudent(Long id, StudentDTO studentDTO) {
         logger.info("Updating student with ID: {}", id);
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + id));
+        if (!Objects.equals(student.getName(), studentDTO.getName())
+                || !Objects.equals(student.getEmail(), studentDTO.getEmail())) {
+            touchRosters(id);
+        }
         student.setName(studentDTO.getName());
         student.setEmail(studentDTO.getEmail());
         Student updatedStudent = studentRepository.save(student);
-        return toDTO(updatedStudent);
+        peopleTypeahead.studentSaved(id, updatedStudent.getName(), updatedStudent.getEmail());
+        return StudentMapper.toDTO(updatedStudent);
     }
 
     /**
@@ -88,25 +181,36 @@ public class StudentServiceImplementation implements StudentService {
      * @param id the ID of the student to delete.
      */
     @Override
+    @Transactional
     public void deleteStudent(Long id) {
         logger.info("Soft deleting student with ID: {}", id);
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + id));
         student.setDeletedAt(LocalDateTime.now());
         studentRepository.save(student);
+        touchRosters(id);
+        outboxService.record(OutboxEventType.STUDENT_DELETED, id, Map.of("id", id));
+        entityCacheEvictor.evictStudent(id);
+        peopleTypeahead.studentRemoved(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TypeaheadHitDTO> searchStudents(String query, int limit) {
+        logger.debug("Searching students for: {}", query);
+        return peopleTypeahead.searchStudents(query, Math.max(1, Math.min(limit, MAX_TYPEAHEAD_LIMIT)));
     }
 
     /**
-     * Converts a Student entity to a StudentDTO.
+     * Marks the rosters the student appears in as changed, so their ETags no longer match.
      *
-     * @param student the Student entity
-     * @return the corresponding StudentDTO
+     * @param studentId The ID of the changed student.
      */
-    private StudentDTO toDTO(Student student) {
-        StudentDTO dto = new StudentDTO();
-        dto.setId(student.getId());
-        dto.setName(student.getName());
-        dto.setEmail(student.getEmail());
-        return dto;
+    private void touchRosters(Long studentId) {
+        List<Long> courseIds = enrollmentRepository.touchCoursesOfStudent(studentId);
+        // The cached courses still hold the old version, which later updates are checked against
+        entityCacheEvictor.evictCourses(courseIds);
     }
 }
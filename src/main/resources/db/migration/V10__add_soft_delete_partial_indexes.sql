@@ -0,0 +1,25 @@
+-- V10__add_soft_delete_partial_indexes.sql
+-- Migration: Index the access paths of the repository queries.
+-- Every read filters on deleted_at IS NULL, so the indexes only cover live rows: soft-deleted rows
+-- neither bloat them nor have to be skipped while paging. course_student(student_id) backs lookups
+-- by student and the ON DELETE CASCADE from students, which the (course_id, student_id) key cannot serve.
+-- The indexes are built CONCURRENTLY so existing tables stay writable; Flyway runs this script outside
+-- a transaction because every statement in it is non-transactional.
+
+-- Keyset pages of live rows (WHERE id > :after AND deleted_at IS NULL ORDER BY id) and live-row counts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_id
+    ON cms.courses (id) WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_students_live_id
+    ON cms.students (id) WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_instructor_live_id
+    ON cms.instructor (id) WHERE deleted_at IS NULL;
+
+-- Courses of an instructor, ordered by id (findByInstructorId, findSummariesByInstructorId)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_instructor_id
+    ON cms.courses (instructor_id, id) WHERE deleted_at IS NULL;
+
+-- Foreign key from the join table to students
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_course_student_student_id
+    ON cms.course_student (student_id);
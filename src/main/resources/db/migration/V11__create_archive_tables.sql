@@ -0,0 +1,43 @@
+-- V11__create_archive_tables.sql
+-- Migration: Archive tables for soft-deleted rows.
+-- The archival job moves rows that were soft deleted longer than the retention period out of the
+-- live tables into these tables, together with their course_student rows. They have the columns of
+-- the live tables plus the time of archiving, and no foreign keys, so archived rows never block
+-- changes to the live tables.
+
+CREATE TABLE cms.instructor_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE TABLE cms.courses_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    start_date DATE,
+    end_date DATE,
+    instructor_id BIGINT,
+    deleted_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE TABLE cms.students_archive (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE TABLE cms.course_student_archive (
+    course_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (course_id, student_id)
+);
@@ -0,0 +1,18 @@
+-- V12__add_soft_deleted_indexes.sql
+-- Migration: Index the soft-deleted rows, so the archival job finds rows past the retention period
+-- in id order without scanning the live tables. The indexes only hold soft-deleted rows and stay
+-- small because archived rows leave them. The foreign key index on courses.instructor_id lets the job
+-- check cheaply whether any course, live or soft-deleted, still references an instructor.
+-- Built CONCURRENTLY, outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_deleted_id
+    ON cms.courses (id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_students_deleted_id
+    ON cms.students (id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_instructor_deleted_id
+    ON cms.instructor (id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_instructor_id
+    ON cms.courses (instructor_id);
@@ -0,0 +1,18 @@
+-- V13__create_outbox_event_table.sql
+-- Migration: Transactional outbox for course, enrollment and deletion events.
+-- Service methods insert an event in the same transaction as the change itself; a background
+-- relay publishes unpublished events in id order and stamps published_at. Published rows are
+-- purged after the retention period.
+
+CREATE TABLE cms.outbox_event (
+    id BIGSERIAL PRIMARY KEY,              -- Publication order
+    aggregate_type VARCHAR(50) NOT NULL,   -- course, student or instructor
+    aggregate_id BIGINT NOT NULL,          -- ID of the changed course, student or instructor
+    event_type VARCHAR(50) NOT NULL,       -- e.g. STUDENT_ENROLLED
+    payload JSONB NOT NULL,                -- Event details
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    published_at TIMESTAMP                 -- Null until the relay has handed the event to the sinks
+);
+
+-- The relay reads the oldest unpublished events; this index only holds the backlog
+CREATE INDEX idx_outbox_event_unpublished ON cms.outbox_event (id) WHERE published_at IS NULL;
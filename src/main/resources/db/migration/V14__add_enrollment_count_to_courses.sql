@@ -0,0 +1,17 @@
+-- V14__add_enrollment_count_to_courses.sql
+-- Migration: Keep the number of enrolled students on the course row.
+-- The count is maintained by every write to cms.course_student with an atomic
+-- "enrollment_count = enrollment_count + n" update, so listings and dashboards can show and sort by it
+-- without counting the join table. Existing rosters are counted once here. Archived courses keep the count
+-- they had when they were archived.
+
+ALTER TABLE cms.courses
+ADD COLUMN enrollment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE cms.courses c
+SET enrollment_count = r.enrolled
+FROM (SELECT course_id, COUNT(*) AS enrolled FROM cms.course_student GROUP BY course_id) r
+WHERE c.id = r.course_id;
+
+ALTER TABLE cms.courses_archive
+ADD COLUMN enrollment_count INTEGER NOT NULL DEFAULT 0;
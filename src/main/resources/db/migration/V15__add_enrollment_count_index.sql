@@ -0,0 +1,6 @@
+-- V15__add_enrollment_count_index.sql
+-- Migration: Serve "courses of an instructor by enrollment count" from an index on the live courses,
+-- both for the minimum enrollment filter and for the ordering. Built CONCURRENTLY, outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_instructor_enrollment_count
+    ON cms.courses (instructor_id, enrollment_count) WHERE deleted_at IS NULL;
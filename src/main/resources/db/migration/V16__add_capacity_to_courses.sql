@@ -0,0 +1,11 @@
+-- V16__add_capacity_to_courses.sql
+-- Migration: Limit the number of seats of a course. NULL means unlimited.
+-- Enrollments claim a seat with a conditional "enrollment_count < capacity" update on the course row,
+-- so a course is never oversubscribed, however many students enroll at the same time. Archived courses keep
+-- their capacity.
+
+ALTER TABLE cms.courses
+ADD COLUMN capacity INTEGER CHECK (capacity >= 0);
+
+ALTER TABLE cms.courses_archive
+ADD COLUMN capacity INTEGER;
@@ -0,0 +1,11 @@
+-- V17__add_search_vector_to_courses.sql
+-- Migration: Full-text search over the course catalog.
+-- The title (weight A) and description (weight B) are parsed into a tsvector by PostgreSQL itself, as a
+-- stored generated column, so every insert and update keeps it in sync without application code.
+-- Adding the column rewrites the table once.
+
+ALTER TABLE cms.courses
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'B')
+) STORED;
@@ -0,0 +1,6 @@
+-- V18__add_search_vector_index.sql
+-- Migration: Serve course search from a GIN index over the search vectors of the live courses.
+-- Built CONCURRENTLY, outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_search_vector
+    ON cms.courses USING GIN (search_vector) WHERE deleted_at IS NULL;
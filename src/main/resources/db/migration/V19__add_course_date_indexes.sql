@@ -0,0 +1,19 @@
+-- V19__add_course_date_indexes.sql
+-- Migration: Index the dates of the live courses for the date-window catalog queries.
+-- "Active between X and Y" is an overlap of date ranges, served by a GiST index over the inclusive range
+-- of each course. daterange raises an error when start_date > end_date, and PostgreSQL does not promise to
+-- evaluate a guard like "AND start_date <= end_date" before it, so the range is built inside a CASE, which
+-- is evaluated in order: courses missing a date or with their dates reversed get a NULL range, which
+-- overlaps nothing. The query repeats this expression exactly so the index matches it. "Starting" and
+-- "ending" windows are B-tree range scans that also return the courses in keyset order.
+-- Built CONCURRENTLY, outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_date_range
+    ON cms.courses USING GIST ((CASE WHEN start_date <= end_date THEN daterange(start_date, end_date, '[]') END))
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_start_date
+    ON cms.courses (start_date, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_courses_live_end_date
+    ON cms.courses (end_date, id) WHERE deleted_at IS NULL;
@@ -0,0 +1,8 @@
+-- V8__pooled_id_sequences.sql
+-- Migration: Let Hibernate allocate IDs in blocks of 50 from the existing BIGSERIAL sequences
+-- so that inserts of new instructors, courses and students can be sent as JDBC batches.
+-- Column defaults keep working for plain SQL inserts; IDs simply advance in steps of 50.
+
+ALTER SEQUENCE cms.instructor_id_seq INCREMENT BY 50;
+ALTER SEQUENCE cms.courses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE cms.students_id_seq INCREMENT BY 50;
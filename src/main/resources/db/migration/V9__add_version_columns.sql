@@ -0,0 +1,13 @@
+-- V9__add_version_columns.sql
+-- Migration: Add a row version to instructors, courses and students.
+-- The version is incremented on every change (optimistic locking in Hibernate, and explicitly
+-- by the JDBC enrollment writes for courses) and is used to derive HTTP ETags.
+
+ALTER TABLE cms.instructor
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE cms.courses
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE cms.students
+ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,120 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Simulates registration opening: {@value #REQUESTS} students enroll in the same course at once through
+ * {@code POST /api/courses/{courseId}/student/{studentId}}, released together by a start gate.
+ * The course must end up with exactly its capacity, every other request must be answered with
+ * 409 (Conflict), and the p99 latency must stay below {@code -Dstress.p99Millis} (default 2,000).
+ * Results are written to {@code target/benchmarks/capacity-stress.json}.
+ * Run with {@code mvn test -Pbenchmark -Dtest=CapacityStressBenchmarkTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CapacityStressBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final int REQUESTS = Integer.getInteger("stress.requests", 5_000);
+    private static final int CAPACITY = Integer.getInteger("stress.capacity", 100);
+    private static final long P99_LIMIT_MILLIS = Long.getLong("stress.p99Millis", 2_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void concurrentEnrollmentsNeverExceedCapacity() throws Exception {
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO cms.students (name, email) " +
+                "SELECT 'Student ' || g, 'student' || g || '@example.com' FROM generate_series(1, ?) g", REQUESTS);
+        Long courseId = jdbcTemplate.queryForObject(
+                "INSERT INTO cms.courses (title, capacity) VALUES ('Popular course', ?) RETURNING id", Long.class, CAPACITY);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<long[]>> calls = new ArrayList<>(REQUESTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long studentId = 1; studentId <= REQUESTS; studentId++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                "http://localhost:" + port + "/api/courses/" + courseId + "/student/" + studentId))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .timeout(Duration.ofSeconds(60))
+                        .build();
+                calls.add(executor.submit(() -> {
+                    startGate.await();
+                    long start = System.nanoTime();
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    return new long[]{status, System.nanoTime() - start};
+                }));
+            }
+            startGate.countDown();
+        }
+
+        long[] latencies = new long[REQUESTS];
+        Map<Integer, Integer> statuses = new LinkedHashMap<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            long[] result = calls.get(i).get();
+            statuses.merge((int) result[0], 1, Integer::sum);
+            latencies[i] = result[1];
+        }
+        Arrays.sort(latencies);
+        long enrolled = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cms.course_student WHERE course_id = ?", Long.class, courseId);
+        int enrollmentCount = jdbcTemplate.queryForObject(
+                "SELECT enrollment_count FROM cms.courses WHERE id = ?", Integer.class, courseId);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", REQUESTS);
+        report.put("capacity", CAPACITY);
+        report.put("statuses", statuses);
+        report.put("enrolledRows", enrolled);
+        report.put("enrollmentCount", enrollmentCount);
+        report.put("p50Millis", millis(latencies, 0.50));
+        report.put("p95Millis", millis(latencies, 0.95));
+        report.put("p99Millis", millis(latencies, 0.99));
+        report.put("maxMillis", latencies[REQUESTS - 1] / 1e6);
+        File out = new File("target/benchmarks/capacity-stress.json");
+        out.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, report);
+
+        assertEquals(CAPACITY, enrolled, "Course was over- or under-enrolled: " + report);
+        assertEquals(CAPACITY, enrollmentCount, "Enrollment count drifted from the roster: " + report);
+        assertEquals(Map.of(200, CAPACITY, 409, REQUESTS - CAPACITY), statuses, "Unexpected responses: " + report);
+        assertTrue(millis(latencies, 0.99) <= P99_LIMIT_MILLIS, "p99 latency above " + P99_LIMIT_MILLIS + " ms: " + report);
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) (sortedNanos.length * percentile))] / 1e6;
+    }
+}
@@ -0,0 +1,120 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the cms schema with a synthetic dataset of configurable size for the benchmarks.
+ * Rows are generated inside PostgreSQL with {@code generate_series}, in chunks so that no single
+ * statement has to hold tens of millions of rows. IDs are dense and start at 1, names and emails
+ * are derived from the ID ({@code student<id>@example.com}), and the ID sequences are moved past
+ * the seeded rows so that the application can keep inserting afterwards.
+ */
+public final class DatasetGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final long CHUNK_SIZE = 1_000_000;
+
+    /**
+     * Size of a generated dataset.
+     *
+     * @param instructors The number of instructors.
+     * @param courses     The number of courses; each is taught by one of the instructors.
+     * @param students    The number of students.
+     * @param enrollments The number of course/student pairs. Students are enrolled in
+     *                    {@code ceil(enrollments / students)} distinct courses each, until the total is reached.
+     */
+    public record Scale(long instructors, long courses, long students, long enrollments) {
+
+        /**
+         * Reads the scale from system properties {@code <prefix>.instructors}, {@code <prefix>.courses},
+         * {@code <prefix>.students} and {@code <prefix>.enrollments}, falling back to the given defaults.
+         */
+        public static Scale fromSystemProperties(String prefix, Scale defaults) {
+            return new Scale(
+                    Long.getLong(prefix + ".instructors", defaults.instructors()),
+                    Long.getLong(prefix + ".courses", defaults.courses()),
+                    Long.getLong(prefix + ".students", defaults.students()),
+                    Long.getLong(prefix + ".enrollments", defaults.enrollments()));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a generator writing through the given template.
+     *
+     * @param jdbcTemplate The template bound to the database to seed.
+     */
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replaces the content of the cms tables with a generated dataset.
+     *
+     * @param scale The size of the dataset.
+     */
+    public void generate(Scale scale) {
+        long perStudent = Math.max(1, (scale.enrollments() + scale.students() - 1) / scale.students());
+        if (perStudent > scale.courses()) {
+            throw new IllegalArgumentException("Cannot enroll each student in " + perStudent
+                    + " distinct courses out of " + scale.courses());
+        }
+        logger.info("Generating dataset {}", scale);
+        long started = System.nanoTime();
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor RESTART IDENTITY CASCADE");
+
+        inChunks(scale.instructors(), (from, to) -> jdbcTemplate.update(
+                "INSERT INTO cms.instructor (id, name, email) " +
+                        "SELECT g, 'Instructor ' || g, 'instructor' || g || '@example.com' " +
+                        "FROM generate_series(?::bigint, ?::bigint) g", from, to));
+        inChunks(scale.courses(), (from, to) -> jdbcTemplate.update(
+                "INSERT INTO cms.courses (id, title, description, start_date, end_date, instructor_id) " +
+                        "SELECT g, 'Course ' || g, 'Generated description of course ' || g, " +
+                        "DATE '2026-01-05' + (g % 365)::int, DATE '2026-01-05' + (g % 365)::int + 30 + (g % 90)::int, " +
+                        "1 + g % ? FROM generate_series(?::bigint, ?::bigint) g", scale.instructors(), from, to));
+        inChunks(scale.students(), (from, to) -> jdbcTemplate.update(
+                "INSERT INTO cms.students (id, name, email) " +
+                        "SELECT g, 'Student ' || g, 'student' || g || '@example.com' " +
+                        "FROM generate_series(?::bigint, ?::bigint) g", from, to));
+
+        // Student g takes courses (g * 7919 + k * stride) mod courses for k < perStudent,
+        // which are distinct because k * stride < courses. Row number (g - 1) * perStudent + k caps the total.
+        long stride = scale.courses() / perStudent;
+        long studentsPerChunk = Math.max(1, CHUNK_SIZE / perStudent);
+        for (long from = 1; from <= scale.students(); from += studentsPerChunk) {
+            long to = Math.min(scale.students(), from + studentsPerChunk - 1);
+            jdbcTemplate.update("INSERT INTO cms.course_student (course_id, student_id) " +
+                            "SELECT 1 + (g * 7919 + k * ?) % ?, g " +
+                            "FROM generate_series(?::bigint, ?::bigint) g, generate_series(0::bigint, ?::bigint - 1) k " +
+                            "WHERE (g - 1) * ? + k < ?",
+                    stride, scale.courses(), from, to, perStudent, perStudent, scale.enrollments());
+        }
+        // The rows were inserted directly, so the enrollment counts are set once afterwards
+        jdbcTemplate.update("UPDATE cms.courses c SET enrollment_count = r.enrolled " +
+                "FROM (SELECT course_id, COUNT(*) AS enrolled FROM cms.course_student GROUP BY course_id) r " +
+                "WHERE c.id = r.course_id");
+
+        jdbcTemplate.execute("SELECT setval('cms.instructor_id_seq', (SELECT COALESCE(MAX(id), 1) FROM cms.instructor))");
+        jdbcTemplate.execute("SELECT setval('cms.courses_id_seq', (SELECT COALESCE(MAX(id), 1) FROM cms.courses))");
+        jdbcTemplate.execute("SELECT setval('cms.students_id_seq', (SELECT COALESCE(MAX(id), 1) FROM cms.students))");
+        jdbcTemplate.execute("VACUUM ANALYZE cms.instructor");
+        jdbcTemplate.execute("VACUUM ANALYZE cms.courses");
+        jdbcTemplate.execute("VACUUM ANALYZE cms.students");
+        jdbcTemplate.execute("VACUUM ANALYZE cms.course_student");
+        logger.info("Generated dataset in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private static void inChunks(long total, ChunkWriter writer) {
+        for (long from = 1; from <= total; from += CHUNK_SIZE) {
+            writer.write(from, Math.min(total, from + CHUNK_SIZE - 1));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(long from, long to);
+    }
+}
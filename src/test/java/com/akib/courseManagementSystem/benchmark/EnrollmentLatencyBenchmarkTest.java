@@ -0,0 +1,126 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import com.akib.courseManagementSystem.repository.EnrollmentRepository;
+import com.akib.courseManagementSystem.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the latency of enrolling a single student in courses whose rosters range from 10 to
+ * 10,000 students. The enrollment write (one transaction with one insert) must not depend on the
+ * roster size, so its median at 10,000 must stay within a small factor of the median at 10.
+ * The full service call is reported as well; its response lists the roster IDs by contract and
+ * therefore reads the roster, which is not part of the write cost.
+ * Results are written to {@code target/benchmarks/enrollment-latency.json}.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class EnrollmentLatencyBenchmarkTest extends AbstractPostgresIntegrationTest {
+
+    private static final int[] ROSTER_SIZES = {10, 100, 1_000, 10_000};
+    private static final int WARMUP = 200;
+    private static final int SAMPLES = 500;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void enrollLatencyIsIndependentOfRosterSize() throws Exception {
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor RESTART IDENTITY CASCADE");
+        int maxRoster = Arrays.stream(ROSTER_SIZES).max().orElseThrow();
+        jdbcTemplate.update("INSERT INTO cms.students (name, email) " +
+                "SELECT 'Student ' || g, 'student' || g || '@example.com' FROM generate_series(1, ?) g", maxRoster + 1);
+        long probeStudentId = maxRoster + 1;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<Integer, Double> medians = new LinkedHashMap<>();
+        for (int rosterSize : ROSTER_SIZES) {
+            Long courseId = jdbcTemplate.queryForObject(
+                    "INSERT INTO cms.courses (title) VALUES (?) RETURNING id", Long.class, "Roster " + rosterSize);
+            jdbcTemplate.update("INSERT INTO cms.course_student (course_id, student_id) " +
+                    "SELECT ?, g FROM generate_series(1, ?) g", courseId, rosterSize);
+            // Keep the denormalized count in line with the seeded roster, as the enroll path reads it
+            jdbcTemplate.update("UPDATE cms.courses SET enrollment_count = ? WHERE id = ?", rosterSize, courseId);
+            jdbcTemplate.execute("ANALYZE cms.course_student");
+
+            for (int i = 0; i < WARMUP; i++) {
+                timeWrite(courseId, probeStudentId);
+                timeServiceCall(courseId, probeStudentId);
+            }
+            long[] writes = new long[SAMPLES];
+            long[] calls = new long[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                writes[i] = timeWrite(courseId, probeStudentId);
+                calls[i] = timeServiceCall(courseId, probeStudentId);
+            }
+            Arrays.sort(writes);
+            Arrays.sort(calls);
+            medians.put(rosterSize, millis(writes, 0.50));
+            report.put(String.valueOf(rosterSize), Map.of(
+                    "writeP50Millis", millis(writes, 0.50),
+                    "writeP95Millis", millis(writes, 0.95),
+                    "writeP99Millis", millis(writes, 0.99),
+                    "serviceCallP50Millis", millis(calls, 0.50),
+                    "serviceCallP99Millis", millis(calls, 0.99)));
+        }
+
+        File out = new File("target/benchmarks/enrollment-latency.json");
+        out.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, report);
+
+        double smallest = medians.get(ROSTER_SIZES[0]);
+        double largest = medians.get(maxRoster);
+        assertTrue(largest <= smallest * 3 + 1.0,
+                "Enroll latency grew with roster size: " + medians + " (see " + out + ")");
+    }
+
+    /**
+     * Times one enrollment write in its own transaction, then removes the row again.
+     */
+    private long timeWrite(Long courseId, long studentId) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> enrollmentRepository.enroll(courseId, studentId));
+        long elapsed = System.nanoTime() - start;
+        courseService.unenrollStudentFromCourse(courseId, studentId);
+        return elapsed;
+    }
+
+    /**
+     * Times the full service call, including the CourseDTO it returns, then removes the row again.
+     */
+    private long timeServiceCall(Long courseId, long studentId) {
+        long start = System.nanoTime();
+        courseService.enrollStudentInCourse(courseId, studentId);
+        long elapsed = System.nanoTime() - start;
+        courseService.unenrollStudentFromCourse(courseId, studentId);
+        return elapsed;
+    }
+
+    private static double millis(long[] sortedNanos, double percentile) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) (sortedNanos.length * percentile))] / 1e6;
+    }
+}
@@ -0,0 +1,232 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator used by the benchmarks.
+ * Runs a fixed number of concurrent clients, each on its own virtual thread so that the client side
+ * is never the bottleneck. Every client repeatedly picks an endpoint by weight and issues a request,
+ * and the latency of each request is recorded per endpoint. Responses with a status of 400 or above
+ * are counted as errors.
+ */
+final class LoadDriver {
+
+    /**
+     * Name prefix of every virtual thread the driver and its HTTP client start, so that thread events
+     * recorded in the same JVM can be told apart from those of the server under test.
+     */
+    static final String THREAD_NAME_PREFIX = "load-driver-";
+
+    /**
+     * A single HTTP request of the workload.
+     *
+     * @param method      The HTTP method.
+     * @param path        The path and query, relative to the base URL.
+     * @param contentType The content type of the body, or null when there is no body.
+     * @param body        The request body, or null when there is no body.
+     */
+    record Call(String method, String path, String contentType, String body) {
+
+        /**
+         * Creates a GET request.
+         */
+        static Call get(String path) {
+            return new Call("GET", path, null, null);
+        }
+
+        /**
+         * Creates a DELETE request.
+         */
+        static Call delete(String path) {
+            return new Call("DELETE", path, null, null);
+        }
+
+        /**
+         * Creates a POST request without a body.
+         */
+        static Call post(String path) {
+            return new Call("POST", path, null, null);
+        }
+
+        /**
+         * Creates a request with a JSON body.
+         */
+        static Call json(String method, String path, String json) {
+            return new Call(method, path, "application/json", json);
+        }
+    }
+
+    /**
+     * An endpoint of the workload mix.
+     *
+     * @param name   The name the endpoint is reported under.
+     * @param weight The relative share of requests going to this endpoint.
+     * @param call   Produces the next request, e.g. with a random ID.
+     */
+    record Endpoint(String name, int weight, Supplier<Call> call) {
+
+        /**
+         * Creates a GET endpoint.
+         */
+        static Endpoint get(String name, int weight, Supplier<String> path) {
+            return new Endpoint(name, weight, () -> Call.get(path.get()));
+        }
+    }
+
+    /**
+     * Latency percentiles and throughput of one endpoint.
+     */
+    record EndpointStats(long requests, long errors, double throughputPerSecond,
+                         double p50Millis, double p95Millis, double p99Millis) {
+    }
+
+    private final String baseUrl;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    LoadDriver(String baseUrl, List<Endpoint> endpoints) {
+        this.baseUrl = baseUrl;
+        this.endpoints = endpoints;
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    /**
+     * Runs the workload.
+     *
+     * @param clients  The number of concurrent clients.
+     * @param warmup   How long to run before latencies are recorded.
+     * @param duration How long to record latencies.
+     * @return The statistics per endpoint, plus an "ALL" entry over every request.
+     */
+    Map<String, EndpointStats> run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        ThreadFactory threads = Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newThreadPerTaskExecutor(threads))
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = recordFrom + duration.toNanos();
+        List<Map<String, Recorder>> perClient = new ArrayList<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threads)) {
+            for (int i = 0; i < clients; i++) {
+                Map<String, Recorder> recorders = new HashMap<>();
+                perClient.add(recorders);
+                executor.submit(() -> clientLoop(httpClient, recorders, recordFrom, stopAt));
+            }
+        }
+        return summarize(perClient, duration);
+    }
+
+    private void clientLoop(HttpClient httpClient, Map<String, Recorder> recorders, long recordFrom, long stopAt) {
+        while (System.nanoTime() < stopAt) {
+            Endpoint endpoint = pick();
+            HttpRequest request = toRequest(endpoint.call().get());
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start >= recordFrom && end <= stopAt) {
+                recorders.computeIfAbsent(endpoint.name(), name -> new Recorder()).record(end - start, ok);
+            }
+        }
+    }
+
+    private HttpRequest toRequest(Call call) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + call.path()))
+                .timeout(Duration.ofSeconds(30));
+        if (call.body() == null) {
+            return builder.method(call.method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", call.contentType())
+                .method(call.method(), HttpRequest.BodyPublishers.ofString(call.body()))
+                .build();
+    }
+
+    private Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static Map<String, EndpointStats> summarize(List<Map<String, Recorder>> perClient, Duration duration) {
+        Map<String, Recorder> merged = new LinkedHashMap<>();
+        Recorder all = new Recorder();
+        for (Map<String, Recorder> recorders : perClient) {
+            recorders.forEach((name, recorder) -> {
+                merged.computeIfAbsent(name, n -> new Recorder()).addAll(recorder);
+                all.addAll(recorder);
+            });
+        }
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        merged.forEach((name, recorder) -> stats.put(name, recorder.stats(duration)));
+        stats.put("ALL", all.stats(duration));
+        return stats;
+    }
+
+    /**
+     * Growable list of latencies of one endpoint, written by a single client.
+     */
+    private static final class Recorder {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        EndpointStats stats(Duration duration) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(size, errors, size / (duration.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import com.akib.courseManagementSystem.CourseManagementSystemApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * End-to-end load test over every /api endpoint against a generated dataset.
+ * <p>
+ * The application is started in-process on a random port, against the PostgreSQL given by
+ * {@code -Dload.jdbcUrl} (with {@code load.username} / {@code load.password}) or, when no URL is
+ * given, against a PostgreSQL container. Flyway creates the schema, {@link DatasetGenerator} seeds it
+ * at the scale given by {@code load.instructors}, {@code load.courses}, {@code load.students} and
+ * {@code load.enrollments} (skip with {@code -Dload.seed=false} to reuse a seeded database), and
+ * {@link LoadDriver} runs {@code load.clients} closed-loop clients over a weighted read/write mix for
+ * {@code load.durationSeconds}. Spring profiles such as {@code virtual-threads} can be activated with
+ * {@code load.profiles}.
+ * <p>
+ * The upper 10% of the IDs of each entity are reserved for the DELETE endpoints, so reads never
+ * hit rows that the run itself soft deleted. Per-endpoint p50/p95/p99 latency and throughput are
+ * written to {@code target/benchmarks/load-suite.json}.
+ * <p>
+ * Production-sized run against a local database:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=LoadSuiteTest -Dload.jdbcUrl=jdbc:postgresql://localhost:5432/cms_load \
+ *     -Dload.students=1000000 -Dload.courses=50000 -Dload.instructors=5000 -Dload.enrollments=20000000
+ * </pre>
+ */
+@Tag("benchmark")
+class LoadSuiteTest {
+
+    private static final DatasetGenerator.Scale DEFAULT_SCALE = new DatasetGenerator.Scale(500, 5_000, 100_000, 1_000_000);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 64);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 30));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.durationSeconds", 120));
+    private static final int BATCH_SIZE = 20;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong created = new AtomicLong();
+
+    @Test
+    void runWorkload() throws Exception {
+        String jdbcUrl = System.getProperty("load.jdbcUrl");
+        if (jdbcUrl != null) {
+            run(jdbcUrl, System.getProperty("load.username", "postgres"), System.getProperty("load.password", ""));
+            return;
+        }
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Set -Dload.jdbcUrl or provide Docker");
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withCommand("postgres", "-c", "max_connections=300", "-c", "shared_buffers=512MB")) {
+            postgres.start();
+            run(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+    }
+
+    private void run(String jdbcUrl, String username, String password) throws Exception {
+        DatasetGenerator.Scale scale = DatasetGenerator.Scale.fromSystemProperties("load", DEFAULT_SCALE);
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CourseManagementSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.show-sql=false");
+        String profiles = System.getProperty("load.profiles");
+        if (profiles != null && !profiles.isBlank()) {
+            builder.profiles(profiles.split(","));
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            if (Boolean.parseBoolean(System.getProperty("load.seed", "true"))) {
+                new DatasetGenerator(context.getBean(JdbcTemplate.class)).generate(scale);
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, workload(scale));
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("startedAt", Instant.now().toString());
+            report.put("scale", scale);
+            report.put("profiles", profiles);
+            report.put("clients", CLIENTS);
+            report.put("warmupSeconds", WARMUP.toSeconds());
+            report.put("durationSeconds", DURATION.toSeconds());
+            report.put("endpoints", driver.run(CLIENTS, WARMUP, DURATION));
+
+            File out = new File("target/benchmarks/load-suite.json");
+            out.getParentFile().mkdirs();
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(out, report);
+        }
+    }
+
+    /**
+     * The request mix, roughly 80% reads and 20% writes.
+     */
+    private List<LoadDriver.Endpoint> workload(DatasetGenerator.Scale scale) {
+        IdRange instructors = new IdRange(scale.instructors());
+        IdRange courses = new IdRange(scale.courses());
+        IdRange students = new IdRange(scale.students());
+        return List.of(
+                // Reads
+                LoadDriver.Endpoint.get("GET /api/courses", 80, () -> "/api/courses?limit=20"),
+                LoadDriver.Endpoint.get("GET /api/courses/{id}", 150, () -> "/api/courses/" + courses.live()),
+                LoadDriver.Endpoint.get("GET /api/courses/instructor/{id}", 40, () -> "/api/courses/instructor/" + instructors.live()),
+                LoadDriver.Endpoint.get("GET /api/courses/instructor/{id}?sortBy=ENROLLMENT_COUNT", 20, () ->
+                        "/api/courses/instructor/" + instructors.live() + "?sortBy=ENROLLMENT_COUNT&direction=DESC&includeStudents=false"),
+                LoadDriver.Endpoint.get("GET /api/courses/{id}/students", 60, () -> "/api/courses/" + courses.live() + "/students"),
+                LoadDriver.Endpoint.get("GET /api/courses/export", 1, () -> "/api/courses/export"),
+                LoadDriver.Endpoint.get("GET /api/students", 60, () -> "/api/students?limit=20"),
+                LoadDriver.Endpoint.get("GET /api/students/{id}", 120, () -> "/api/students/" + students.live()),
+                LoadDriver.Endpoint.get("GET /api/instructors", 30, () -> "/api/instructors?page=0&size=10"),
+                LoadDriver.Endpoint.get("GET /api/instructors/{id}", 50, () -> "/api/instructors/" + instructors.live()),
+                // Course writes
+                new LoadDriver.Endpoint("POST /api/courses", 20, () -> LoadDriver.Call.json("POST", "/api/courses",
+                        courseJson("Load course " + runId + "-" + created.incrementAndGet()))),
+                new LoadDriver.Endpoint("PUT /api/courses/{id}", 20, () -> {
+                    long id = courses.live();
+                    return LoadDriver.Call.json("PUT", "/api/courses/" + id, courseJson("Course " + id));
+                }),
+                new LoadDriver.Endpoint("DELETE /api/courses/{id}", 5, () -> LoadDriver.Call.delete("/api/courses/" + courses.nextDeletable())),
+                new LoadDriver.Endpoint("POST /api/courses/{id}/instructor/{id}", 10, () ->
+                        LoadDriver.Call.post("/api/courses/" + courses.live() + "/instructor/" + instructors.live())),
+                // Enrollment writes
+                new LoadDriver.Endpoint("POST /api/courses/{id}/student/{id}", 60, () ->
+                        LoadDriver.Call.post("/api/courses/" + courses.live() + "/student/" + students.live())),
+                new LoadDriver.Endpoint("DELETE /api/courses/{id}/student/{id}", 30, () ->
+                        LoadDriver.Call.delete("/api/courses/" + courses.live() + "/student/" + students.live())),
+                new LoadDriver.Endpoint("POST /api/courses/{id}/students:batch", 10, () ->
+                        LoadDriver.Call.json("POST", "/api/courses/" + courses.live() + "/students:batch",
+                                LongStream.range(0, BATCH_SIZE).mapToObj(i -> String.valueOf(students.live()))
+                                        .collect(Collectors.joining(",", "[", "]")))),
+                new LoadDriver.Endpoint("POST /api/courses/enrollments:batch", 10, () ->
+                        LoadDriver.Call.json("POST", "/api/courses/enrollments:batch",
+                                LongStream.range(0, BATCH_SIZE)
+                                        .mapToObj(i -> "{\"courseId\":" + courses.live() + ",\"studentId\":" + students.live() + "}")
+                                        .collect(Collectors.joining(",", "[", "]")))),
+                // Student and instructor writes
+                new LoadDriver.Endpoint("POST /api/students", 20, () ->
+                        LoadDriver.Call.json("POST", "/api/students", personJson("Load student", "load-student-" + uniqueSuffix()))),
+                new LoadDriver.Endpoint("PUT /api/students/{id}", 20, () -> {
+                    long id = students.live();
+                    return LoadDriver.Call.json("PUT", "/api/students/" + id, personJson("Student " + id, "student" + id));
+                }),
+                new LoadDriver.Endpoint("DELETE /api/students/{id}", 5, () -> LoadDriver.Call.delete("/api/students/" + students.nextDeletable())),
+                new LoadDriver.Endpoint("POST /api/instructors", 10, () ->
+                        LoadDriver.Call.json("POST", "/api/instructors", personJson("Load instructor", "load-instructor-" + uniqueSuffix()))),
+                new LoadDriver.Endpoint("PUT /api/instructors/{id}", 10, () -> {
+                    long id = instructors.live();
+                    return LoadDriver.Call.json("PUT", "/api/instructors/" + id, personJson("Instructor " + id, "instructor" + id));
+                }),
+                new LoadDriver.Endpoint("DELETE /api/instructors/{id}", 2, () -> LoadDriver.Call.delete("/api/instructors/" + instructors.nextDeletable())),
+                // Bulk import
+                new LoadDriver.Endpoint("POST /api/import/students", 2, () -> new LoadDriver.Call("POST", "/api/import/students",
+                        "text/csv", LongStream.range(0, 50)
+                        .mapToObj(i -> "Imported student," + "load-import-" + uniqueSuffix() + "@example.com")
+                        .collect(Collectors.joining("\n", "name,email\n", "\n")))));
+    }
+
+    private String uniqueSuffix() {
+        return runId + "-" + created.incrementAndGet();
+    }
+
+    private static String courseJson(String title) {
+        return "{\"title\":\"" + title + "\",\"description\":\"Load test course\"," +
+                "\"startDate\":\"2026-09-01\",\"endDate\":\"2026-12-18\"}";
+    }
+
+    private static String personJson(String name, String emailLocalPart) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + emailLocalPart + "@example.com\"}";
+    }
+
+    /**
+     * The seeded IDs of one entity: reads and updates use the lower 90%, the DELETE endpoint walks
+     * down through the upper 10% so each request soft deletes a row that is still live.
+     */
+    private static final class IdRange {
+        private final long liveMax;
+        private final long max;
+        private final AtomicLong nextDeletable;
+
+        IdRange(long count) {
+            this.max = count;
+            this.liveMax = Math.max(1, count - count / 10);
+            this.nextDeletable = new AtomicLong(count);
+        }
+
+        long live() {
+            return 1 + ThreadLocalRandom.current().nextLong(liveMax);
+        }
+
+        long nextDeletable() {
+            long id = nextDeletable.getAndDecrement();
+            // Once the reserved range is used up, later deletes hit already deleted rows and show up as errors
+            return id > liveMax ? id : max;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.akib.courseManagementSystem.benchmark;
+
+import com.akib.courseManagementSystem.CourseManagementSystemApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares request throughput and latency of the course, student and instructor read endpoints
+ * with platform worker threads and with the virtual-threads profile, at {@value #CLIENTS}
+ * concurrent clients against the same seeded database.
+ * While the virtual-thread run is under load, JFR {@code jdk.VirtualThreadPinned} events are
+ * counted to catch virtual threads pinned inside synchronized code, e.g. in the JDBC driver. The load
+ * driver runs in the same JVM, so events of its own virtual threads are counted separately and only
+ * pinned server threads fail the run.
+ * Results are written to {@code target/benchmarks/thread-model.json}.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ThreadModelBenchmarkTest}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadModelBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmupSeconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.durationSeconds", 60));
+    private static final int INSTRUCTORS = 200;
+    private static final int COURSES = 2_000;
+    private static final int STUDENTS = 20_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "max_connections=300");
+
+    @Test
+    void compareThreadModels() throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", CLIENTS);
+        report.put("durationSeconds", DURATION.toSeconds());
+        report.put("platform", runWith(false));
+        report.put("virtual", runWith(true));
+
+        File out = new File("target/benchmarks/thread-model.json");
+        out.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(out, report);
+    }
+
+    private Map<String, Object> runWith(boolean virtualThreads) throws InterruptedException {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CourseManagementSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.jpa.show-sql=false");
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            new DatasetGenerator(context.getBean(JdbcTemplate.class))
+                    .generate(new DatasetGenerator.Scale(INSTRUCTORS, COURSES, STUDENTS, STUDENTS * 5L));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, List.of(
+                    LoadDriver.Endpoint.get("GET /api/courses", 2, () -> "/api/courses?limit=20"),
+                    LoadDriver.Endpoint.get("GET /api/courses/{id}", 4, () -> "/api/courses/" + randomId(COURSES)),
+                    LoadDriver.Endpoint.get("GET /api/students", 2, () -> "/api/students?limit=20"),
+                    LoadDriver.Endpoint.get("GET /api/students/{id}", 4, () -> "/api/students/" + randomId(STUDENTS)),
+                    LoadDriver.Endpoint.get("GET /api/instructors", 1, () -> "/api/instructors?page=0&size=10"),
+                    LoadDriver.Endpoint.get("GET /api/instructors/{id}", 2, () -> "/api/instructors/" + randomId(INSTRUCTORS))));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            AtomicLong pinnedEvents = new AtomicLong();
+            AtomicLong clientPinnedEvents = new AtomicLong();
+            try (RecordingStream pinning = new RecordingStream()) {
+                pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+                pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                    RecordedThread thread = event.getThread();
+                    String name = thread == null ? null : thread.getJavaName();
+                    if (name != null && name.startsWith(LoadDriver.THREAD_NAME_PREFIX)) {
+                        clientPinnedEvents.incrementAndGet();
+                    } else {
+                        pinnedEvents.incrementAndGet();
+                    }
+                });
+                pinning.startAsync();
+                result.put("endpoints", driver.run(CLIENTS, WARMUP, DURATION));
+            }
+            result.put("virtualThreadPinnedEvents", pinnedEvents.get());
+            result.put("clientVirtualThreadPinnedEvents", clientPinnedEvents.get());
+            if (virtualThreads) {
+                assertEquals(0, pinnedEvents.get(), "Virtual threads were pinned to their carrier under load");
+            }
+            return result;
+        }
+    }
+
+    private static long randomId(int max) {
+        return 1 + ThreadLocalRandom.current().nextInt(max);
+    }
+}
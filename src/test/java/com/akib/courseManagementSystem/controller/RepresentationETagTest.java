@@ -0,0 +1,49 @@
+package com.akib.courseManagementSystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that every response format gets its own ETag and is picked from the Accept header like content
+ * negotiation would.
+ */
+class RepresentationETagTest {
+
+    @Test
+    void tagsEachFormatSeparately() {
+        assertEquals("W/\"course-7-3-json\"", eTag(null).value());
+        assertEquals(MediaType.APPLICATION_JSON, eTag("*/*").contentType());
+        assertEquals("W/\"course-7-3-cbor\"", eTag("application/cbor").value());
+        assertEquals("W/\"course-7-3-x-jackson-smile\"",
+                eTag("application/json;q=0.5, application/x-jackson-smile").value());
+        assertEquals(MediaType.APPLICATION_JSON, eTag("application/cbor;q=0.2, application/*;q=0.8").contentType());
+        assertNull(eTag("text/html").contentType());
+    }
+
+    @Test
+    void tagsSparseFieldsetsRegardlessOfOrder() {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/courses/7"));
+
+        RepresentationETag sparse = RepresentationETag.of("\"course-7-3\"", request, new LinkedHashSet<>(List.of("title", "id")));
+
+        assertEquals("W/\"course-7-3-json-fields=id,title\"", sparse.value());
+        assertEquals(sparse.value(), RepresentationETag.of("\"course-7-3\"", request, Set.of("id", "title")).value());
+    }
+
+    private static RepresentationETag eTag(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses/7");
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        return RepresentationETag.of("\"course-7-3\"", new ServletWebRequest(request));
+    }
+}
@@ -0,0 +1,144 @@
+package com.akib.courseManagementSystem.enrollment;
+
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentResultDTO;
+import com.akib.courseManagementSystem.enums.EnrollmentStatus;
+import com.akib.courseManagementSystem.service.EnrollmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link EnrollmentBatcher} merges concurrent enrollments into bounded batches and hands
+ * every caller the result of its own pair, including when a batch fails as a whole.
+ */
+class EnrollmentBatcherTest {
+
+    private static final int MAX_SIZE = 64;
+    private static final long FAILING_STUDENT_ID = 13;
+    private static final long ERROR_STUDENT_ID = 15;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private EnrollmentBatcher batcher;
+
+    @AfterEach
+    void stopBatcher() throws InterruptedException {
+        batcher.stop();
+    }
+
+    @Test
+    void mergesConcurrentEnrollmentsAndKeepsEachResult() throws Exception {
+        startBatcher(Duration.ofMillis(20));
+        int requests = 1_000;
+        List<Future<EnrollmentStatus>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long studentId = 100; studentId < 100 + requests; studentId++) {
+                long id = studentId;
+                results.add(callers.submit(() -> batcher.enroll(1L, id).join()));
+            }
+        }
+
+        for (int i = 0; i < requests; i++) {
+            assertEquals(expectedStatus(100 + i), results.get(i).get());
+        }
+        assertEquals(requests, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= MAX_SIZE), "Batch above max size: " + batchSizes);
+        assertTrue(batchSizes.size() < requests / 4, "Enrollments were not merged: " + batchSizes);
+    }
+
+    @Test
+    void retriesAFailedBatchOneByOne() throws Exception {
+        startBatcher(Duration.ofMillis(50));
+        CompletableFuture<EnrollmentStatus> before = batcher.enroll(1L, 12L);
+        CompletableFuture<EnrollmentStatus> failing = batcher.enroll(1L, FAILING_STUDENT_ID);
+        CompletableFuture<EnrollmentStatus> after = batcher.enroll(1L, 14L);
+
+        assertEquals(EnrollmentStatus.ENROLLED, before.get());
+        assertEquals(EnrollmentStatus.ENROLLED, after.get());
+        ExecutionException failure = assertThrows(ExecutionException.class, failing::get);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    void survivesAnErrorEscapingABatch() throws Exception {
+        startBatcher(Duration.ofMillis(1));
+        CompletableFuture<EnrollmentStatus> failing = batcher.enroll(1L, ERROR_STUDENT_ID);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertEquals("Simulated error", failure.getCause().getMessage());
+        assertEquals(EnrollmentStatus.ENROLLED, batcher.enroll(1L, 16L).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void completesEveryEnrollmentRacingWithStop() throws Exception {
+        startBatcher(Duration.ofMillis(1));
+        List<CompletableFuture<EnrollmentStatus>> results = new CopyOnWriteArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int caller = 0; caller < 8; caller++) {
+                callers.submit(() -> {
+                    for (long studentId = 100; studentId < 2_100; studentId += 2) {
+                        results.add(batcher.enroll(1L, studentId));
+                    }
+                });
+            }
+            Thread.sleep(5);
+            batcher.stop();
+        }
+
+        for (CompletableFuture<EnrollmentStatus> result : results) {
+            // Each one is either written or rejected, never left pending
+            result.handle((status, failure) -> status != null || failure instanceof IllegalStateException)
+                    .thenAccept(Assertions::assertTrue)
+                    .get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void startBatcher(Duration window) {
+        EnrollmentService enrollmentService = new EnrollmentService() {
+            @Override
+            public List<EnrollmentResultDTO> enrollStudents(Long courseId, List<Long> studentIds) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<EnrollmentResultDTO> enrollPairs(List<EnrollmentRequestDTO> pairs) {
+                batchSizes.add(pairs.size());
+                if (pairs.stream().anyMatch(pair -> pair.getStudentId() == FAILING_STUDENT_ID)) {
+                    throw new IllegalStateException("Simulated failure");
+                }
+                if (pairs.stream().anyMatch(pair -> pair.getStudentId() == ERROR_STUDENT_ID)) {
+                    throw new Error("Simulated error");
+                }
+                return pairs.stream()
+                        .map(pair -> new EnrollmentResultDTO(pair.getCourseId(), pair.getStudentId(),
+                                expectedStatus(pair.getStudentId())))
+                        .collect(Collectors.toList());
+            }
+        };
+        batcher = new EnrollmentBatcher(enrollmentService, new SimpleMeterRegistry(), window, MAX_SIZE, 1,
+                Duration.ofSeconds(10));
+        batcher.start();
+    }
+
+    private static EnrollmentStatus expectedStatus(long studentId) {
+        return studentId % 2 == 0 ? EnrollmentStatus.ENROLLED : EnrollmentStatus.COURSE_FULL;
+    }
+}
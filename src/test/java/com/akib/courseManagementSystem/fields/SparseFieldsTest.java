@@ -0,0 +1,55 @@
+package com.akib.courseManagementSystem.fields;
+
+import com.akib.courseManagementSystem.config.SparseFieldsConfig;
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.exception.InvalidRequestParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies parsing of the {@code fields} parameter and that only the requested fields are written.
+ */
+class SparseFieldsTest {
+
+    @Test
+    void selectsRequestedPathsAndRejectsUnknownFields() {
+        Map<String, String> available = Map.of("id", "id", "title", "title", "instructorId", "instructor.id");
+
+        Map<String, String> selected = SparseFields.select(SparseFields.parse(" instructorId, ,title"), available);
+
+        assertEquals(List.of("id", "instructorId", "title"), List.copyOf(selected.keySet()));
+        assertEquals("instructor.id", selected.get("instructorId"));
+        assertNull(SparseFields.parse(" "));
+        assertThrows(InvalidRequestParameterException.class, () -> SparseFields.select(Set.of("version"), available));
+        assertThrows(InvalidRequestParameterException.class, () -> SparseFields.parse("id,\"title"));
+    }
+
+    @Test
+    void writesOnlyRequestedFieldsOfPagedDTOs() throws Exception {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new SparseFieldsConfig().sparseFieldsCustomizer().customize(builder);
+        ObjectMapper mapper = builder.build();
+        CourseDTO course = new CourseDTO();
+        course.setId(7L);
+        course.setTitle("Compilers");
+        CursorPage<CourseDTO> page = new CursorPage<>(List.of(course), null, 20);
+
+        MappingJacksonValue sparse = SparseFields.filter(page, Set.of("id", "title"));
+        String json = mapper.writer(sparse.getFilters()).writeValueAsString(sparse.getValue());
+
+        assertEquals("{\"items\":[{\"id\":7,\"title\":\"Compilers\"}],\"nextCursor\":null,\"limit\":20}", json);
+        assertTrue(mapper.writeValueAsString(course).contains("\"studentIds\":null"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.akib.courseManagementSystem.repository;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the active-window query leaves out courses whose dates are reversed or missing
+ * instead of failing on them, and that its keyset pages continue in start date order.
+ */
+class CourseDateWindowTest extends AbstractPostgresIntegrationTest {
+
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("INSERT INTO cms.instructor (id, name, email) VALUES (1, 'Ada', 'ada@example.com')");
+        // 1 and 3 overlap March, 2 has its dates reversed, 4 has no end date, 5 ends before March, 6 is deleted
+        jdbcTemplate.update("INSERT INTO cms.courses (id, title, instructor_id, start_date, end_date, deleted_at) VALUES " +
+                "(1, 'Running', 1, '2026-02-01', '2026-03-10', NULL), " +
+                "(2, 'Reversed', 1, '2026-03-20', '2026-03-01', NULL), " +
+                "(3, 'Starting', 1, '2026-03-05', '2026-05-01', NULL), " +
+                "(4, 'Open ended', 1, '2026-03-02', NULL, NULL), " +
+                "(5, 'Finished', 1, '2026-01-01', '2026-02-28', NULL), " +
+                "(6, 'Deleted', 1, '2026-03-01', '2026-03-31', now())");
+        // Enough reversed rows that the planner may evaluate the range before any date check
+        jdbcTemplate.update("INSERT INTO cms.courses (id, title, instructor_id, start_date, end_date) " +
+                "SELECT g, 'Reversed ' || g, 1, DATE '2026-03-15', DATE '2026-03-01' FROM generate_series(100, 2000) g");
+        jdbcTemplate.execute("ANALYZE cms.courses");
+    }
+
+    @Test
+    void activeWindowSkipsReversedDatesAndPagesInStartOrder() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+
+        List<Long> firstPage = courseRepository.findActiveIdsAfter(from, to, EARLIEST_DATE, 0L, 1);
+        List<Long> secondPage = courseRepository.findActiveIdsAfter(from, to, LocalDate.of(2026, 2, 1), 1L, 10);
+
+        assertEquals(List.of(1L), firstPage);
+        assertEquals(List.of(3L), secondPage);
+    }
+}
@@ -0,0 +1,245 @@
+package com.akib.courseManagementSystem.repository;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import com.akib.courseManagementSystem.benchmark.DatasetGenerator;
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.EnrollmentRequestDTO;
+import com.akib.courseManagementSystem.dto.InstructorDTO;
+import com.akib.courseManagementSystem.dto.StudentDTO;
+import com.akib.courseManagementSystem.entity.Course;
+import com.akib.courseManagementSystem.entity.Instructor;
+import com.akib.courseManagementSystem.entity.Student;
+import com.akib.courseManagementSystem.enums.RosterSortField;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the access paths of the repository queries against regressions.
+ * <p>
+ * The schema is seeded with a synthetic dataset, then every selective repository query is executed
+ * once while {@link StatementRecorder} captures the SQL and parameters actually sent to PostgreSQL.
+ * Each captured statement is replayed under {@code EXPLAIN (FORMAT JSON)} and the test fails if the
+ * plan contains a sequential scan of a table with more than {@code plan.seqScanThreshold} rows
+ * (default 10,000), i.e. when a query stops using an index.
+ * <p>
+ * Full listings ({@code CourseRepository.findAll/streamAllSummaries}, {@code StudentRepository.findAll}) read
+ * every live row by design and are not covered, nor are the page total counts of paged queries.
+ * The seeded scale can be raised with {@code -Dplan.students=...} etc. (see {@link DatasetGenerator.Scale}).
+ */
+@Import(StatementRecorder.class)
+class QueryPlanRegressionTest extends AbstractPostgresIntegrationTest {
+
+    private static final long SEQ_SCAN_THRESHOLD = Long.getLong("plan.seqScanThreshold", 10_000);
+    private static final DatasetGenerator.Scale DEFAULT_SCALE = new DatasetGenerator.Scale(20_000, 50_000, 200_000, 600_000);
+    private static final int OUTBOX_EVENTS = 50_000;
+
+    /**
+     * Page total counts ({@code select count(...) ... where deleted_at is null}) have to visit every live row.
+     */
+    private static final Predicate<String> PAGE_COUNT = sql -> sql.toLowerCase().startsWith("select count(");
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ArchivalRepository archivalRepository;
+
+    @Autowired
+    private SparseFieldRepository sparseFieldRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void seed() {
+        new DatasetGenerator(jdbcTemplate).generate(DatasetGenerator.Scale.fromSystemProperties("plan", DEFAULT_SCALE));
+        // Soft delete a share of the rows so the partial indexes have something to leave out
+        jdbcTemplate.update("UPDATE cms.courses SET deleted_at = now() WHERE id % 10 = 0");
+        jdbcTemplate.update("UPDATE cms.students SET deleted_at = now() WHERE id % 10 = 0");
+        jdbcTemplate.update("UPDATE cms.instructor SET deleted_at = now() WHERE id % 10 = 0");
+        // A retained history of published events with a small unpublished backlog at the end
+        jdbcTemplate.update("TRUNCATE cms.outbox_event RESTART IDENTITY");
+        jdbcTemplate.update("INSERT INTO cms.outbox_event (aggregate_type, aggregate_id, event_type, payload, published_at) " +
+                "SELECT 'course', g, 'COURSE_UPDATED', jsonb_build_object('courseId', g, 'title', 'Course ' || g), " +
+                "CASE WHEN g <= ? THEN now() - interval '30 days' END FROM generate_series(1, ?) g",
+                OUTBOX_EVENTS - 500, OUTBOX_EVENTS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        List<Long> someIds = LongStream.rangeClosed(101, 120).boxed().toList();
+        List<EnrollmentRequestDTO> somePairs = LongStream.rangeClosed(101, 120)
+                .mapToObj(id -> new EnrollmentRequestDTO(id, id * 3)).toList();
+        List<String> someEmails = LongStream.rangeClosed(101, 120).mapToObj(id -> "student" + id + "@example.com").toList();
+        // Rows soft deleted in seed() are past a cutoff in the near future
+        LocalDateTime archivalCutoff = LocalDateTime.now().plusMinutes(1);
+        Map<String, String> coursePaths = Map.of("id", "id", "title", "title", "instructorId", "instructor.id");
+        Map<String, String> personPaths = Map.of("id", "id", "name", "name");
+        return Stream.of(
+                check("CourseRepository.findById", () -> courseRepository.findById(1_001L)),
+                check("CourseRepository.findByInstructorId", () -> courseRepository.findByInstructorId(7L)),
+                check("CourseRepository.findSummaryPageAfter", () -> courseRepository.findSummaryPageAfter(25_000L, PageRequest.of(0, 21))),
+                check("CourseRepository.findSummariesByInstructorId", () -> courseRepository.findSummariesByInstructorId(8L)),
+                check("CourseRepository.findSummariesByInstructorId(minEnrollment, Sort)", () -> courseRepository
+                        .findSummariesByInstructorId(8L, 5, Sort.by(Sort.Direction.DESC, "enrollmentCount"))),
+                check("CourseRepository.findStudentIdsByCourseIds", () -> courseRepository.findStudentIdsByCourseIds(someIds)),
+                check("CourseRepository.findSummaryById", () -> courseRepository.findSummaryById(1_002L)),
+                check("CourseRepository.findSummariesByIds", () -> courseRepository.findSummariesByIds(someIds)),
+                check("CourseRepository.findActiveIdsAfter", () -> courseRepository.findActiveIdsAfter(
+                        LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 7), LocalDate.of(1, 1, 1), 0L, 21)),
+                check("CourseRepository.findSummariesStartingAfter", () -> courseRepository.findSummariesStartingAfter(
+                        LocalDate.of(2026, 3, 7), LocalDate.of(2026, 3, 1), 0L, PageRequest.of(0, 21))),
+                check("CourseRepository.findSummariesEndingAfter", () -> courseRepository.findSummariesEndingAfter(
+                        LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1), 0L, PageRequest.of(0, 21))),
+                check("CourseRepository.searchIds", () -> courseRepository.searchIds("12345", PageRequest.of(0, 20))),
+                check("CourseRepository.existsActiveById", () -> courseRepository.existsActiveById(1_003L)),
+                check("CourseRepository.findVersionById", () -> courseRepository.findVersionById(1_004L)),
+                check("StudentRepository.findById", () -> studentRepository.findById(2_001L)),
+                check("StudentRepository.findPageAfter", () -> studentRepository.findPageAfter(100_000L, PageRequest.of(0, 21))),
+                check("StudentRepository.existsActiveById", () -> studentRepository.existsActiveById(2_002L)),
+                check("StudentRepository.findExistingEmails", () -> studentRepository.findExistingEmails(someEmails)),
+                check("StudentRepository.findVersionById", () -> studentRepository.findVersionById(2_003L)),
+                check("InstructorRepository.findById", () -> instructorRepository.findById(301L)),
+                check("InstructorRepository.findAll(Pageable)",
+                        () -> instructorRepository.findAll(PageRequest.of(50, 10, Sort.by("id"))), PAGE_COUNT),
+                check("InstructorRepository.findExistingEmails", () -> instructorRepository.findExistingEmails(
+                        List.of("instructor11@example.com", "instructor12@example.com"))),
+                check("InstructorRepository.findActiveIds", () -> instructorRepository.findActiveIds(someIds)),
+                check("InstructorRepository.findVersionById", () -> instructorRepository.findVersionById(302L)),
+                check("EnrollmentRepository.findActiveCourseIds", () -> enrollmentRepository.findActiveCourseIds(someIds)),
+                check("EnrollmentRepository.findActiveStudentIds", () -> enrollmentRepository.findActiveStudentIds(someIds)),
+                check("EnrollmentRepository.findExisting", () -> enrollmentRepository.findExisting(somePairs)),
+                check("EnrollmentRepository.lockFreeSeats", () -> enrollmentRepository.lockFreeSeats(someIds)),
+                check("EnrollmentRepository.enroll", () -> enrollmentRepository.enroll(1_005L, 3_001L)),
+                check("EnrollmentRepository.isEnrolled", () -> enrollmentRepository.isEnrolled(1_005L, 3_001L)),
+                check("EnrollmentRepository.delete", () -> enrollmentRepository.delete(1_005L, 3_001L)),
+                check("EnrollmentRepository.batchInsert", () -> enrollmentRepository.batchInsert(somePairs)),
+                check("EnrollmentRepository.findRosterPage", () -> enrollmentRepository.findRosterPage(
+                        1_007L, RosterSortField.ID, Sort.Direction.ASC, 5_000L, null, 101)),
+                check("EnrollmentRepository.findRosterPage(NAME)", () -> enrollmentRepository.findRosterPage(
+                        1_007L, RosterSortField.NAME, Sort.Direction.DESC, 5_000L, "Student 5000", 101)),
+                check("EnrollmentRepository.findSchedule", () -> enrollmentRepository.findSchedule(3_002L)),
+                check("EnrollmentRepository.findOverlappingCourseIds",
+                        () -> enrollmentRepository.findOverlappingCourseIds(3_002L, 1_008L)),
+                check("EnrollmentRepository.lockStudent", () -> enrollmentRepository.lockStudent(3_002L)),
+                check("EnrollmentRepository.touchCoursesOfStudent", () -> enrollmentRepository.touchCoursesOfStudent(3_003L)),
+                check("OutboxRepository.findUnpublished", () -> outboxRepository.findUnpublished(100)),
+                check("OutboxRepository.markPublished", () -> outboxRepository.markPublished(
+                        LongStream.rangeClosed(OUTBOX_EVENTS - 99, OUTBOX_EVENTS).boxed().toList())),
+                check("OutboxRepository.deletePublishedBefore",
+                        () -> outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(7), 1_000)),
+                check("ArchivalRepository.lockArchivableCourseIds",
+                        () -> archivalRepository.lockArchivableCourseIds(archivalCutoff, 0L, 500)),
+                check("ArchivalRepository.lockArchivableStudentIds",
+                        () -> archivalRepository.lockArchivableStudentIds(archivalCutoff, 100_000L, 500)),
+                check("ArchivalRepository.lockArchivableInstructorIds",
+                        () -> archivalRepository.lockArchivableInstructorIds(archivalCutoff, 0L, 500)),
+                check("SparseFieldRepository.findPageAfter", () -> sparseFieldRepository.findPageAfter(
+                        Course.class, coursePaths, 25_000L, 21, CourseDTO::new)),
+                check("SparseFieldRepository.findById", () -> sparseFieldRepository.findById(
+                        Student.class, personPaths, 2_004L, StudentDTO::new)),
+                check("SparseFieldRepository.findPage", () -> sparseFieldRepository.findPage(
+                        Instructor.class, personPaths, PageRequest.of(50, 10), InstructorDTO::new), PAGE_COUNT));
+    }
+
+    private DynamicTest check(String name, Runnable query) {
+        return check(name, query, sql -> false);
+    }
+
+    private DynamicTest check(String name, Runnable query, Predicate<String> exempt) {
+        return DynamicTest.dynamicTest(name, () -> {
+            List<StatementRecorder.RecordedStatement> statements = statementRecorder.record(query);
+            assertFalse(statements.isEmpty(), name + " did not reach the database");
+            for (StatementRecorder.RecordedStatement statement : statements) {
+                if (exempt.test(statement.sql())) {
+                    continue;
+                }
+                List<String> scans = largeSequentialScans(statement);
+                assertTrue(scans.isEmpty(), name + " scans " + scans + " sequentially:\n" + statement.sql());
+            }
+        });
+    }
+
+    /**
+     * Explains the statement and returns the tables above the threshold that its plan scans sequentially.
+     */
+    private List<String> largeSequentialScans(StatementRecorder.RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = statement.prepare(connection, "EXPLAIN (FORMAT JSON) ");
+             ResultSet resultSet = explain.executeQuery()) {
+            resultSet.next();
+            JsonNode plan = readTree(resultSet.getString(1)).get(0).get("Plan");
+            List<String> scans = new ArrayList<>();
+            collectSequentialScans(plan, scans);
+            return scans.stream().filter(table -> rowCount(table) > SEQ_SCAN_THRESHOLD).toList();
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            scans.add("cms." + node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+
+    private long rowCount(String table) {
+        Long rows = jdbcTemplate.queryForObject("SELECT reltuples::bigint FROM pg_class WHERE oid = ?::regclass", Long.class, table);
+        return rows == null ? 0 : rows;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + json, e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.akib.courseManagementSystem.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the prepared statements, with their bound parameters, that the application sends through
+ * its DataSource, so that tests can replay exactly those statements, e.g. under {@code EXPLAIN}.
+ * Registered as a bean post-processor, it wraps every DataSource bean; statements are only recorded
+ * on the calling thread while {@link #record(Runnable)} runs.
+ */
+class StatementRecorder implements BeanPostProcessor {
+
+    /**
+     * A call of one of the {@code PreparedStatement.setXxx(int index, ...)} methods.
+     */
+    record Bind(Method setter, Object[] args) {
+    }
+
+    /**
+     * A statement that was executed, with the parameters it was executed with.
+     */
+    record RecordedStatement(String sql, List<Bind> binds) {
+
+        /**
+         * Prepares this statement on the given connection, prefixed with {@code prefix}, and binds
+         * the recorded parameters, e.g. to run {@code EXPLAIN} for it.
+         */
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Bind bind : binds) {
+                invoke(statement, bind.setter(), bind.args());
+            }
+            return statement;
+        }
+    }
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    /**
+     * Runs the action and returns the statements it executed on this thread, in order.
+     */
+    List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            // Keep close() reachable so the pool is still shut down with the context
+            Class<?>[] types = dataSource instanceof AutoCloseable
+                    ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                    : new Class<?>[]{DataSource.class};
+            return Proxy.newProxyInstance(getClass().getClassLoader(), types, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? wrapConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return method.getName().equals("prepareStatement")
+                            ? wrapStatement((PreparedStatement) result, (String) args[0])
+                            : result;
+                });
+    }
+
+    private PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        List<Bind> binds = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        binds.add(new Bind(method, args.clone()));
+                    } else if (name.equals("clearParameters")) {
+                        binds.clear();
+                    } else if (name.equals("addBatch") || (name.startsWith("execute") && !name.equals("executeBatch") && args == null)) {
+                        List<RecordedStatement> statements = recording.get();
+                        if (statements != null) {
+                            statements.add(new RecordedStatement(sql, List.copyOf(binds)));
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.akib.courseManagementSystem.schedule;
+
+import com.akib.courseManagementSystem.dto.ScheduleEntryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the overlap queries of {@link ScheduleIndex}, including against a pairwise comparison.
+ */
+class ScheduleIndexTest {
+
+    private static final LocalDate TERM = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void findsOverlapsWithInclusiveDates() {
+        ScheduleIndex index = new ScheduleIndex(List.of(
+                entry(1, 0, 100),
+                entry(2, 10, 20),
+                entry(3, 30, 40),
+                entry(4, 50, 60),
+                new ScheduleEntryDTO(5L, "Unscheduled", null, null, List.of())));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(1L, 3L, 4L), index.overlapping(day(40), day(50)));
+        assertEquals(List.of(1L, 2L), index.overlapping(day(20), day(25)));
+        assertEquals(List.of(), index.overlapping(day(101), day(200)));
+        assertTrue(index.overlapsAny(day(100), day(100)));
+        assertFalse(index.overlapsAny(day(-10), day(-1)));
+        assertFalse(index.overlapsAny(null, day(50)));
+    }
+
+    @Test
+    void matchesPairwiseComparison() {
+        Random random = new Random(7);
+        List<ScheduleEntryDTO> entries = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            int start = random.nextInt(1000);
+            entries.add(entry(id, start, start + random.nextInt(random.nextBoolean() ? 10 : 200)));
+        }
+        ScheduleIndex index = new ScheduleIndex(entries);
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(1100) - 50;
+            int end = start + random.nextInt(60);
+            List<Long> expected = entries.stream()
+                    .filter(e -> !e.getStartDate().isAfter(day(end)) && !e.getEndDate().isBefore(day(start)))
+                    .sorted((a, b) -> a.getStartDate().equals(b.getStartDate())
+                            ? a.getCourseId().compareTo(b.getCourseId())
+                            : a.getStartDate().compareTo(b.getStartDate()))
+                    .map(ScheduleEntryDTO::getCourseId)
+                    .toList();
+            assertEquals(expected, index.overlapping(day(start), day(end)));
+            assertEquals(!expected.isEmpty(), index.overlapsAny(day(start), day(end)));
+        }
+    }
+
+    private static ScheduleEntryDTO entry(long courseId, int startDay, int endDay) {
+        return new ScheduleEntryDTO(courseId, "Course " + courseId, day(startDay), day(endDay), List.of());
+    }
+
+    private static LocalDate day(int offset) {
+        return TERM.plusDays(offset);
+    }
+}
@@ -0,0 +1,55 @@
+package com.akib.courseManagementSystem.search;
+
+import com.akib.courseManagementSystem.dto.TypeaheadHitDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the matching, ranking and update rules of {@link TypeaheadIndex}.
+ */
+class TypeaheadIndexTest {
+
+    @Test
+    void matchesEveryTermAsTokenPrefixAndRanksExactWordsFirst() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put(1L, "Annabel Smith", "annabel.smith@example.com");
+        index.put(2L, "Ann Smythe", "ann.smythe@example.com");
+        index.put(3L, "Joanna Smith", "jo.smith@example.com");
+
+        assertEquals(List.of(2L, 1L), ids(index.search("ann", 10)));
+        assertEquals(List.of(1L), ids(index.search("SMITH ann", 10)));
+        assertEquals(List.of(3L), ids(index.search("jo.sm", 10)));
+        assertEquals(List.of(2L), ids(index.search("ann", 1)));
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void followsUpdatesAndRemovals() {
+        TypeaheadIndex index = new TypeaheadIndex();
+        index.put(1L, "Maria Lopez", "maria@example.com");
+        index.put(2L, "Mario Rossi", "mario@example.com");
+
+        index.put(1L, "Maria Garcia", "mgarcia@example.com");
+        index.remove(2L);
+
+        assertTrue(index.search("lopez", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("garc", 10)));
+        assertEquals(List.of(1L), ids(index.search("mari", 10)));
+        assertEquals(1, index.size());
+        // Only the tokens of "Maria Garcia mgarcia@example.com" still hold an ID
+        assertEquals(5, index.postingsSize());
+
+        index.put(2L, "Mario Rossi", "mario@example.com");
+        index.put(2L, "Mario Rossi", "mario@example.com");
+        assertEquals(List.of(1L, 2L), ids(index.search("mari", 10)));
+        assertEquals(9, index.postingsSize());
+    }
+
+    private static List<Long> ids(List<TypeaheadHitDTO> hits) {
+        return hits.stream().map(TypeaheadHitDTO::getId).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import com.akib.courseManagementSystem.dto.ArchivalReportDTO;
+import com.akib.courseManagementSystem.service.ArchivalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that only rows soft deleted before the retention period are moved to the archive tables,
+ * together with their course_student rows, across several batches.
+ */
+@TestPropertySource(properties = {
+        "cms.archival.retention=7d",
+        "cms.archival.batch-size=2",
+        "cms.archival.throttle=0ms"
+})
+class ArchivalServiceImplementationTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor, " +
+                "cms.course_student_archive, cms.courses_archive, cms.students_archive, cms.instructor_archive RESTART IDENTITY CASCADE");
+        // Instructor 1 is live, 2 deleted long ago and only teaches archived courses, 3 deleted recently
+        jdbcTemplate.update("INSERT INTO cms.instructor (id, name, email, deleted_at) VALUES " +
+                "(1, 'Live', 'live@example.com', NULL), " +
+                "(2, 'Old', 'old@example.com', now() - interval '30 days'), " +
+                "(3, 'Recent', 'recent@example.com', now() - interval '1 day')");
+        // Courses 1-5 deleted long ago, 6 deleted recently, 7 live
+        jdbcTemplate.update("INSERT INTO cms.courses (id, title, instructor_id, deleted_at) " +
+                "SELECT g, 'Course ' || g, CASE WHEN g <= 5 THEN 2 ELSE 1 END, " +
+                "CASE WHEN g <= 5 THEN now() - interval '30 days' WHEN g = 6 THEN now() - interval '1 day' END " +
+                "FROM generate_series(1, 7) g");
+        // Students 1-3 deleted long ago, 4 live
+        jdbcTemplate.update("INSERT INTO cms.students (id, name, email, deleted_at) " +
+                "SELECT g, 'Student ' || g, 'student' || g || '@example.com', " +
+                "CASE WHEN g <= 3 THEN now() - interval '30 days' END FROM generate_series(1, 4) g");
+        // Every student is enrolled in every course
+        jdbcTemplate.update("INSERT INTO cms.course_student (course_id, student_id) " +
+                "SELECT c, s FROM generate_series(1, 7) c, generate_series(1, 4) s");
+        jdbcTemplate.update("UPDATE cms.courses SET enrollment_count = 4");
+    }
+
+    @Test
+    void archivesRowsPastRetentionWithTheirEnrollments() {
+        ArchivalReportDTO report = archivalService.archiveSoftDeleted();
+
+        assertEquals(5, report.getCourses());
+        assertEquals(3, report.getStudents());
+        assertEquals(1, report.getInstructors());
+        // 5 archived courses x 4 students, then 3 archived students x the 2 remaining courses
+        assertEquals(26, report.getEnrollments());
+
+        assertEquals(26L, count("cms.course_student_archive"));
+        assertEquals(2L, count("cms.course_student"));
+        assertEquals(2L, count("cms.courses"));
+        assertEquals(1L, count("cms.students"));
+        assertEquals(2L, count("cms.instructor"));
+        assertEquals(5L, count("cms.courses_archive"));
+        // Archived courses keep the enrollment count they had when their rosters were archived
+        assertEquals(5L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cms.courses_archive WHERE enrollment_count = 4", Long.class));
+        assertEquals(3L, count("cms.students_archive"));
+        assertEquals(1L, count("cms.instructor_archive"));
+        // The remaining courses lost students, so their versions moved on
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cms.courses WHERE version > 0", Long.class));
+        // and their enrollment counts only include the remaining student
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cms.courses WHERE enrollment_count = 1", Long.class));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
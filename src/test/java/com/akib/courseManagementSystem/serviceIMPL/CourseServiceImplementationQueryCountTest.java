@@ -0,0 +1,127 @@
+package com.akib.courseManagementSystem.serviceIMPL;
+
+import com.akib.courseManagementSystem.AbstractPostgresIntegrationTest;
+import com.akib.courseManagementSystem.dto.CourseDTO;
+import com.akib.courseManagementSystem.dto.CursorPage;
+import com.akib.courseManagementSystem.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifies that the course listings are built from a constant number of statements,
+ * independent of how many courses and enrollments are returned.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CourseServiceImplementationQueryCountTest extends AbstractPostgresIntegrationTest {
+
+    private static final int COURSES = 25;
+    private static final int STUDENTS_PER_COURSE = 8;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long instructorId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE cms.course_student, cms.courses, cms.students, cms.instructor RESTART IDENTITY CASCADE");
+        instructorId = jdbcTemplate.queryForObject(
+                "INSERT INTO cms.instructor (name, email) VALUES ('Ada', 'ada@example.com') RETURNING id", Long.class);
+        for (int c = 0; c < COURSES; c++) {
+            Long courseId = jdbcTemplate.queryForObject(
+                    "INSERT INTO cms.courses (title, instructor_id) VALUES (?, ?) RETURNING id",
+                    Long.class, "Course " + c, instructorId);
+            for (int s = 0; s < STUDENTS_PER_COURSE; s++) {
+                Long studentId = jdbcTemplate.queryForObject(
+                        "INSERT INTO cms.students (name, email) VALUES (?, ?) RETURNING id",
+                        Long.class, "Student " + c + "-" + s, "student" + c + "-" + s + "@example.com");
+                jdbcTemplate.update("INSERT INTO cms.course_student (course_id, student_id) VALUES (?, ?)", courseId, studentId);
+            }
+        }
+    }
+
+    @Test
+    void getAllCoursesUsesTwoStatementsPerPage() {
+        Statistics statistics = statistics();
+
+        CursorPage<CourseDTO> page = courseService.getAllCourses(null, 100);
+
+        assertEquals(COURSES, page.getItems().size());
+        assertEquals(STUDENTS_PER_COURSE, page.getItems().get(0).getStudentIds().size());
+        assertEquals(instructorId, page.getItems().get(0).getInstructorId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void sparseCourseListingReadsJoinTableOnlyForStudentIds() {
+        Statistics statistics = statistics();
+
+        CursorPage<CourseDTO> page = courseService.getAllCourses(null, 100, Set.of("title", "instructorId"));
+
+        assertEquals(COURSES, page.getItems().size());
+        assertEquals(instructorId, page.getItems().get(0).getInstructorId());
+        assertNull(page.getItems().get(0).getStudentIds());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        page = courseService.getAllCourses(null, 100, Set.of("title", "studentIds"));
+
+        assertEquals(STUDENTS_PER_COURSE, page.getItems().get(0).getStudentIds().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getCoursesByInstructorUsesTwoStatements() {
+        Statistics statistics = statistics();
+
+        List<CourseDTO> courses = courseService.getCoursesByInstructor(instructorId);
+
+        assertEquals(COURSES, courses.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void exportReadsStudentIdsPerChunkInsteadOfPerCourse() throws IOException {
+        Statistics statistics = statistics();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        courseService.exportCourses(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(COURSES, lines.length);
+        assertEquals(STUDENTS_PER_COURSE, objectMapper.readValue(lines[0], CourseDTO.class).getStudentIds().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}